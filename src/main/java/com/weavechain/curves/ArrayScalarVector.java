@@ -0,0 +1,237 @@
+package com.weavechain.curves;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class ArrayScalarVector implements ScalarVector {
+
+    private final Scalar zero;
+
+    private Scalar[] values;
+
+    private int size;
+
+    public ArrayScalarVector(int size, Scalar zero) {
+        this.zero = zero;
+        this.values = new Scalar[size];
+        this.size = size;
+        Arrays.fill(values, zero);
+    }
+
+    public ArrayScalarVector(List<Scalar> values, Scalar zero) {
+        this.zero = zero;
+        this.values = values.toArray(new Scalar[0]);
+        this.size = this.values.length;
+    }
+
+    private ArrayScalarVector(Scalar[] values, int size, Scalar zero) {
+        this.zero = zero;
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Scalar get(int idx) {
+        checkIndex(idx);
+        return values[idx];
+    }
+
+    @Override
+    public void set(int idx, Scalar value) {
+        checkIndex(idx);
+        values[idx] = value;
+    }
+
+    @Override
+    public void set(int idx, ScalarVector src, int srcIdx) {
+        set(idx, src.get(srcIdx));
+    }
+
+    @Override
+    public void resize(int size) {
+        if (size > values.length) {
+            values = Arrays.copyOf(values, Math.max(size, 2 * this.size));
+        }
+        if (size > this.size) {
+            Arrays.fill(values, this.size, size, zero);
+        } else {
+            Arrays.fill(values, size, this.size, null);
+        }
+        this.size = size;
+    }
+
+    @Override
+    public void append(ScalarVector other) {
+        if (!(other instanceof ArrayScalarVector)) {
+            int offset = size;
+            resize(offset + other.size());
+            for (int i = 0; i < other.size(); i++) {
+                set(offset + i, other.get(i));
+            }
+            return;
+        }
+
+        ArrayScalarVector o = (ArrayScalarVector)other;
+        int offset = size;
+        int count = o.size;
+        resize(offset + count);
+        System.arraycopy(o.values, 0, values, offset, count);
+    }
+
+    @Override
+    public ScalarVector slice(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+        return new ArrayScalarVector(Arrays.copyOfRange(values, from, to), to - from, zero);
+    }
+
+    @Override
+    public ScalarVector copy() {
+        return slice(0, size);
+    }
+
+    @Override
+    public void bindTop(Scalar r) {
+        int n = size / 2;
+        bindTop(r, 0, n);
+        resize(n);
+    }
+
+    @Override
+    public void bindTop(Scalar r, int from, int to) {
+        bindTopInto(r, this, from, to);
+    }
+
+    @Override
+    public void bindBot(Scalar r) {
+        int n = size / 2;
+        for (int i = 0; i < n; i++) {
+            values[i] = values[2 * i].add(r.multiply(values[2 * i + 1].subtract(values[2 * i])));
+        }
+        resize(n);
+    }
+
+    @Override
+    public void bindTopInto(Scalar r, ScalarVector dst, int from, int to) {
+        Scalar[] out = ((ArrayScalarVector)dst).values;
+        int n = size / 2;
+        for (int i = from; i < to; i++) {
+            out[i] = values[i].add(r.multiply(values[i + n].subtract(values[i])));
+        }
+    }
+
+    @Override
+    public void bindBotInto(Scalar r, ScalarVector dst, int from, int to) {
+        Scalar[] out = ((ArrayScalarVector)dst).values;
+        for (int i = from; i < to; i++) {
+            out[i] = values[2 * i].add(r.multiply(values[2 * i + 1].subtract(values[2 * i])));
+        }
+    }
+
+    @Override
+    public ScalarVector zeros(int size) {
+        return new ArrayScalarVector(size, zero);
+    }
+
+    @Override
+    public void mul(int dst, int src, Scalar r) {
+        checkIndex(src);
+        set(dst, values[src].multiply(r));
+    }
+
+    @Override
+    public void sub(int dst, int a, int b) {
+        checkIndex(a);
+        checkIndex(b);
+        set(dst, values[a].subtract(values[b]));
+    }
+
+    @Override
+    public void addScaled(ScalarVector other, int offset, Scalar s) {
+        if (offset < 0 || offset + size > other.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        for (int i = 0; i < size; i++) {
+            values[i] = values[i].add(s.multiply(other.get(offset + i)));
+        }
+    }
+
+    @Override
+    public ScalarVector hadamard(ScalarVector other, int from, int to) {
+        if (from < 0 || to > size || to > other.size() || from > to) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        ArrayScalarVector res = new ArrayScalarVector(new Scalar[to - from], to - from, zero);
+        hadamardInto(from, to, other, from, res, 0);
+        return res;
+    }
+
+    @Override
+    public void hadamardInto(int from, int to, ScalarVector other, int otherFrom, ScalarVector dst, int dstFrom) {
+        for (int i = from; i < to; i++) {
+            dst.set(dstFrom + i - from, values[i].multiply(other.get(otherFrom + i - from)));
+        }
+    }
+
+    @Override
+    public Scalar dot(ScalarVector other) {
+        if (size != other.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+        return dot(other, 0);
+    }
+
+    @Override
+    public Scalar dot(ScalarVector other, int offset) {
+        if (offset < 0 || offset + other.size() > size) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        Scalar res = zero;
+        for (int i = 0; i < other.size(); i++) {
+            res = res.add(values[offset + i].multiply(other.get(i)));
+        }
+        return res;
+    }
+
+    @Override
+    public List<Scalar> toList() {
+        return new ListView();
+    }
+
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(idx);
+        }
+    }
+
+    private class ListView extends AbstractList<Scalar> implements RandomAccess {
+
+        @Override
+        public Scalar get(int index) {
+            return ArrayScalarVector.this.get(index);
+        }
+
+        @Override
+        public Scalar set(int index, Scalar element) {
+            Scalar prev = ArrayScalarVector.this.get(index);
+            ArrayScalarVector.this.set(index, element);
+            return prev;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.weavechain.curves;
+
+import java.util.List;
+
+public class FixedBaseTable {
+
+    // table[i][d - 1] = d * 2^(w * i) * base, for signed radix 2^w digits d in [1, 2^(w - 1)]
+    private final Point[][] table;
+
+    private final int windowBits;
+
+    private final Point zero;
+
+    public FixedBaseTable(Point base, Point zero, int windowBits) {
+        if (windowBits < 6 || windowBits > 8) {
+            throw new IllegalArgumentException("Invalid window size");
+        }
+
+        this.windowBits = windowBits;
+        this.zero = zero;
+
+        int windows = (256 + windowBits - 1) / windowBits + (windowBits == 8 ? 1 : 0);
+        int digits = 1 << (windowBits - 1);
+        table = new Point[windows][digits];
+
+        Point p = base;
+        for (int i = 0; i < windows; i++) {
+            Point[] row = table[i];
+            row[0] = p;
+            for (int d = 1; d < digits; d++) {
+                row[d] = row[d - 1].add(p);
+            }
+            p = row[digits - 1].add(row[digits - 1]);
+        }
+    }
+
+    public Point multiply(Scalar scalar) {
+        Point result = accumulate(null, scalar);
+        return result != null ? result : zero;
+    }
+
+    public static Point multiscalarMul(List<Scalar> scalars, List<FixedBaseTable> tables) {
+        if (scalars.size() != tables.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        Point result = null;
+        for (int j = 0; j < scalars.size(); j++) {
+            result = tables.get(j).accumulate(result, scalars.get(j));
+        }
+        return result != null ? result : tables.get(0).zero;
+    }
+
+    private Point accumulate(Point result, Scalar scalar) {
+        byte[] digits = ScalarRadix.toRadix2w(scalar, windowBits);
+        for (int i = 0; i < table.length; i++) {
+            int d = digits[i];
+            if (d > 0) {
+                Point term = table[i][d - 1];
+                result = result != null ? result.add(term) : term;
+            } else if (d < 0) {
+                Point term = table[i][-d - 1];
+                result = result != null ? result.subtract(term) : zero.subtract(term);
+            }
+        }
+        return result;
+    }
+}
@@ -18,7 +18,15 @@ public class FrScalar implements Scalar {
 
     public static final BigInt MOD = BigInt.fromBigInteger(MODULUS, N);
 
-    private static final BigInteger UNSIGNED_LONG_MASK = BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
+    private static final long P0 = MOD.getValues()[0];
+
+    private static final long P1 = MOD.getValues()[1];
+
+    private static final long P2 = MOD.getValues()[2];
+
+    private static final long P3 = MOD.getValues()[3];
+
+    public static final long INV = inv();
 
     private static final int GENERATOR = 7;
 
@@ -34,9 +42,7 @@ public class FrScalar implements Scalar {
 
     public static final FrScalar ONE = fromLong(1L);
 
-    public static final long INV = inv();
-
-    private static final boolean MODULUS_HAS_SPARE_BIT = MOD.getValues()[N - 1] >>> 63 == 0;
+    private static final long[] INV_EXP = BigInt.fromBigInteger(MODULUS.subtract(BigInteger.TWO), N).getValues();
 
     private BigInt value;
 
@@ -69,9 +75,9 @@ public class FrScalar implements Scalar {
     }
 
     public static long sbb(long a, long b, AtomicBoolean borrow) {
-        BigInteger res = BigInteger.TWO.pow(64).add(BigInteger.valueOf(a)).subtract(BigInteger.valueOf(b)).subtract(BigInteger.valueOf(borrow.get() ? 1 : 0));
-        borrow.set(res.testBit(64));
-        return res.longValue();
+        long res = a - b - (borrow.get() ? 1 : 0);
+        borrow.set(borrowOut(a, b, res) != 0);
+        return res;
     }
 
     public static boolean inplaceSub(long[] value, long[] other) {
@@ -86,6 +92,15 @@ public class FrScalar implements Scalar {
         return (FrScalar)new FrScalar(BigInt.fromLong(value, N)).multiply(R2);
     }
 
+    // Montgomery form of a non-negative value into r[ro..ro + 4), without allocating a scalar
+    public static void fromLong(long value, long[] r, int ro) {
+        r[ro] = value;
+        r[ro + 1] = 0;
+        r[ro + 2] = 0;
+        r[ro + 3] = 0;
+        mul(r, ro, R2.value.getValues(), 0, r, ro);
+    }
+
     public static FrScalar fromBigInteger(BigInteger value) {
         return (FrScalar)new FrScalar(BigInt.fromBigInteger(value, N)).multiply(R2);
     }
@@ -199,103 +214,330 @@ public class FrScalar implements Scalar {
         return -a;
     }
 
+    // Fermat inversion a^(p - 2) with a fixed 4-bit window, maps zero to zero
     @Override
     public Scalar invert() {
-        BigInt u = value.clone();
-        BigInt v = MOD.clone();
-        BigInt b = R2.value.clone();
-        BigInt c = ZERO.value.clone();
-
-        BigInt one = BigInt.fromLong(1, u.getValues().length);
-
-        while (!one.equals(u) && !one.equals(v)) {
-            while (u.isEven()) {
-                u.shiftRight();
-
-                if (b.isEven()) {
-                    b.shiftRight();
-                } else {
-                    boolean carry = b.addWithCarry(MOD);
-                    b.shiftRight();
-                    if (!MODULUS_HAS_SPARE_BIT && carry) {
-                        b.getValues()[N - 1] |= (1L << 63);
-                    }
-                }
-            }
+        long[] a = value.getValues();
+        long[] table = new long[16 * N];
+        System.arraycopy(ONE.value.getValues(), 0, table, 0, N);
+        for (int i = 1; i < 16; i++) {
+            mul(table, (i - 1) * N, a, 0, table, i * N);
+        }
 
-            while (v.isEven()) {
-                v.shiftRight();
-
-                if (c.isEven()) {
-                    c.shiftRight();
-                } else {
-                    boolean carry = c.addWithCarry(MOD);
-                    c.shiftRight();
-                    if (!MODULUS_HAS_SPARE_BIT && carry) {
-                        c.getValues()[N - 1] |= (1L << 63);
-                    }
-                }
+        long[] res = ONE.value.getValues().clone();
+        for (int i = N * 16 - 1; i >= 0; i--) {
+            for (int k = 0; k < 4; k++) {
+                square(res, 0, res, 0);
             }
-
-            if (v.compareTo(u) < 0) {
-                u.subWithBorrow(v);
-                b.sub(c, MOD);
-            } else {
-                v.subWithBorrow(u);
-                c.sub(b, MOD);
+            int nibble = (int)(INV_EXP[i / 16] >>> (4 * (i % 16))) & 0xF;
+            if (nibble != 0) {
+                mul(res, 0, table, nibble * N, res, 0);
             }
         }
 
-        return new FrScalar(one.equals(u) ? b : c);
+        return new FrScalar(new BigInt(res));
     }
 
     @Override
     public Scalar add(Scalar other) {
-        BigInteger result = value.toBigInteger().add(((FrScalar)other).value.toBigInteger()).mod(MODULUS);
-        return new FrScalar(BigInt.fromBigInteger(result, N));
+        return new FrScalar(new BigInt(add(value.getValues(), ((FrScalar)other).value.getValues())));
     }
 
     @Override
     public Scalar subtract(Scalar other) {
-        BigInteger result = value.toBigInteger().subtract(((FrScalar)other).value.toBigInteger()).mod(MODULUS);
-        return new FrScalar(BigInt.fromBigInteger(result, N));
+        return new FrScalar(new BigInt(sub(value.getValues(), ((FrScalar)other).value.getValues())));
     }
 
-    public BigInteger mmul(BigInteger a, BigInteger b) {
-        BigInteger result = BigInteger.ZERO;
-        for (int i = 0; i < N * 64; i++) {
-            if (a.testBit(i)) {
-                result = result.add(b);
-            }
+    @Override
+    public Scalar multiply(Scalar other) {
+        return new FrScalar(new BigInt(mul(value.getValues(), ((FrScalar)other).value.getValues())));
+    }
+
+    @Override
+    public Scalar square() {
+        return new FrScalar(new BigInt(square(value.getValues())));
+    }
+
+    @Override
+    public Scalar negate() {
+        return new FrScalar(new BigInt(sub(ZERO.value.getValues(), value.getValues())));
+    }
+
+    public static long[] add(long[] a, long[] b) {
+        return add(a, b, new long[N]);
+    }
+
+    public static long[] sub(long[] a, long[] b) {
+        return sub(a, b, new long[N]);
+    }
+
+    public static long[] mul(long[] a, long[] b) {
+        return mul(a, b, new long[N]);
+    }
+
+    public static long[] square(long[] a) {
+        return square(a, new long[N]);
+    }
+
+    public static long[] add(long[] a, long[] b, long[] r) {
+        add(a, 0, b, 0, r, 0);
+        return r;
+    }
+
+    public static long[] sub(long[] a, long[] b, long[] r) {
+        sub(a, 0, b, 0, r, 0);
+        return r;
+    }
+
+    public static long[] mul(long[] a, long[] b, long[] r) {
+        mul(a, 0, b, 0, r, 0);
+        return r;
+    }
+
+    public static long[] square(long[] a, long[] r) {
+        square(a, 0, r, 0);
+        return r;
+    }
+
+    // a + b mod p, inputs reduced; the limb arrays may alias
+    public static void add(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long s0 = a[ao] + b[bo];
+        long c = carryOut(a[ao], b[bo], s0);
+        long s1 = a[ao + 1] + b[bo + 1] + c;
+        c = carryOut(a[ao + 1], b[bo + 1], s1);
+        long s2 = a[ao + 2] + b[bo + 2] + c;
+        c = carryOut(a[ao + 2], b[bo + 2], s2);
+        long s3 = a[ao + 3] + b[bo + 3] + c;
+        c = carryOut(a[ao + 3], b[bo + 3], s3);
+
+        reduceOnce(s0, s1, s2, s3, c, r, ro);
+    }
 
-            if (result.testBit(0)) {
-                result = result.add(MODULUS);
+    // a - b mod p, inputs reduced; the limb arrays may alias
+    public static void sub(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long d0 = a[ao] - b[bo];
+        long br = borrowOut(a[ao], b[bo], d0);
+        long d1 = a[ao + 1] - b[bo + 1] - br;
+        br = borrowOut(a[ao + 1], b[bo + 1], d1);
+        long d2 = a[ao + 2] - b[bo + 2] - br;
+        br = borrowOut(a[ao + 2], b[bo + 2], d2);
+        long d3 = a[ao + 3] - b[bo + 3] - br;
+        br = borrowOut(a[ao + 3], b[bo + 3], d3);
+
+        if (br != 0) {
+            long s0 = d0 + P0;
+            long c = carryOut(d0, P0, s0);
+            long s1 = d1 + P1 + c;
+            c = carryOut(d1, P1, s1);
+            long s2 = d2 + P2 + c;
+            c = carryOut(d2, P2, s2);
+            long s3 = d3 + P3 + c;
+            set(r, ro, s0, s1, s2, s3);
+        } else {
+            set(r, ro, d0, d1, d2, d3);
+        }
+    }
+
+    // CIOS Montgomery multiplication, a * b * R^-1 mod p; a may be any 256-bit value as long as b is reduced
+    public static void mul(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        final long a0 = a[ao];
+        final long a1 = a[ao + 1];
+        final long a2 = a[ao + 2];
+        final long a3 = a[ao + 3];
+
+        long t0 = 0;
+        long t1 = 0;
+        long t2 = 0;
+        long t3 = 0;
+        long t4 = 0;
+        for (int i = 0; i < N; i++) {
+            final long bi = b[bo + i];
+            long lo;
+            long hi;
+            long c;
+
+            lo = a0 * bi;
+            hi = mulHigh(a0, bi);
+            lo += t0;
+            hi += carry(lo, t0);
+            t0 = lo;
+            c = hi;
+
+            lo = a1 * bi;
+            hi = mulHigh(a1, bi);
+            lo += t1;
+            hi += carry(lo, t1);
+            lo += c;
+            hi += carry(lo, c);
+            t1 = lo;
+            c = hi;
+
+            lo = a2 * bi;
+            hi = mulHigh(a2, bi);
+            lo += t2;
+            hi += carry(lo, t2);
+            lo += c;
+            hi += carry(lo, c);
+            t2 = lo;
+            c = hi;
+
+            lo = a3 * bi;
+            hi = mulHigh(a3, bi);
+            lo += t3;
+            hi += carry(lo, t3);
+            lo += c;
+            hi += carry(lo, c);
+            t3 = lo;
+            c = hi;
+
+            t4 += c;
+            long t5 = carry(t4, c);
+
+            final long m = t0 * INV;
+
+            lo = m * P0;
+            hi = mulHigh(m, P0);
+            lo += t0;
+            hi += carry(lo, t0);
+            c = hi;
+
+            lo = m * P1;
+            hi = mulHigh(m, P1);
+            lo += t1;
+            hi += carry(lo, t1);
+            lo += c;
+            hi += carry(lo, c);
+            t0 = lo;
+            c = hi;
+
+            lo = m * P2;
+            hi = mulHigh(m, P2);
+            lo += t2;
+            hi += carry(lo, t2);
+            lo += c;
+            hi += carry(lo, c);
+            t1 = lo;
+            c = hi;
+
+            lo = m * P3;
+            hi = mulHigh(m, P3);
+            lo += t3;
+            hi += carry(lo, t3);
+            lo += c;
+            hi += carry(lo, c);
+            t2 = lo;
+            c = hi;
+
+            t3 = t4 + c;
+            t4 = t5 + carry(t3, c);
+        }
+
+        reduceOnce(t0, t1, t2, t3, t4, r, ro);
+    }
+
+    // full 512-bit product with doubled cross terms, followed by a Montgomery reduction
+    public static void square(long[] in, int io, long[] out, int oo) {
+        long[] a = { in[io], in[io + 1], in[io + 2], in[io + 3] };
+        long[] r = new long[2 * N];
+
+        for (int i = 0; i < N - 1; i++) {
+            long c = 0;
+            for (int j = i + 1; j < N; j++) {
+                long lo = a[i] * a[j];
+                long hi = mulHigh(a[i], a[j]);
+                lo += r[i + j];
+                hi += carry(lo, r[i + j]);
+                lo += c;
+                hi += carry(lo, c);
+                r[i + j] = lo;
+                c = hi;
             }
+            r[i + N] = c;
+        }
 
-            result = result.shiftRight(1);
+        r[2 * N - 1] = r[2 * N - 2] >>> 63;
+        for (int i = 2 * N - 2; i > 0; i--) {
+            r[i] = (r[i] << 1) | (r[i - 1] >>> 63);
         }
 
-        if (result.compareTo(MODULUS) >= 0) {
-            result = result.subtract(MODULUS);
+        long c = 0;
+        for (int i = 0; i < N; i++) {
+            long lo = a[i] * a[i];
+            long hi = mulHigh(a[i], a[i]);
+            lo += r[2 * i];
+            hi += carry(lo, r[2 * i]);
+            lo += c;
+            hi += carry(lo, c);
+            r[2 * i] = lo;
+
+            long s = r[2 * i + 1] + hi;
+            c = carry(s, hi);
+            r[2 * i + 1] = s;
+        }
+
+        long carry2 = 0;
+        for (int i = 0; i < N; i++) {
+            long m = r[i] * INV;
+            c = 0;
+            for (int j = 0; j < N; j++) {
+                long pj = MOD.getValues()[j];
+                long lo = m * pj;
+                long hi = mulHigh(m, pj);
+                lo += r[i + j];
+                hi += carry(lo, r[i + j]);
+                lo += c;
+                hi += carry(lo, c);
+                r[i + j] = lo;
+                c = hi;
+            }
+            long s = r[i + N] + c;
+            long c2 = carry(s, c);
+            s += carry2;
+            carry2 = c2 + carry(s, carry2);
+            r[i + N] = s;
         }
 
-        return result;
+        reduceOnce(r[N], r[N + 1], r[N + 2], r[N + 3], carry2, out, oo);
     }
 
-    @Override
-    public Scalar multiply(Scalar other) {
-        BigInteger result = mmul(value.toBigInteger(), ((FrScalar)other).value.toBigInteger());
-        return new FrScalar(BigInt.fromBigInteger(result, N));
+    private static void reduceOnce(long t0, long t1, long t2, long t3, long t4, long[] r, int ro) {
+        long d0 = t0 - P0;
+        long br = borrowOut(t0, P0, d0);
+        long d1 = t1 - P1 - br;
+        br = borrowOut(t1, P1, d1);
+        long d2 = t2 - P2 - br;
+        br = borrowOut(t2, P2, d2);
+        long d3 = t3 - P3 - br;
+        br = borrowOut(t3, P3, d3);
+
+        if (t4 != 0 || br == 0) {
+            set(r, ro, d0, d1, d2, d3);
+        } else {
+            set(r, ro, t0, t1, t2, t3);
+        }
     }
 
-    @Override
-    public Scalar square() {
-        return multiply(new FrScalar(value.clone()));
+    private static void set(long[] r, int ro, long v0, long v1, long v2, long v3) {
+        r[ro] = v0;
+        r[ro + 1] = v1;
+        r[ro + 2] = v2;
+        r[ro + 3] = v3;
     }
 
-    @Override
-    public Scalar negate() {
-        return ZERO.subtract(new FrScalar(value.clone()));
+    private static long mulHigh(long a, long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    private static long carry(long sum, long addend) {
+        return Long.compareUnsigned(sum, addend) < 0 ? 1 : 0;
+    }
+
+    private static long carryOut(long a, long b, long sum) {
+        return ((a & b) | ((a | b) & ~sum)) >>> 63;
+    }
+
+    private static long borrowOut(long a, long b, long diff) {
+        return ((~a & b) | (~(a ^ b) & diff)) >>> 63;
     }
 
     @Override
@@ -0,0 +1,108 @@
+package com.weavechain.curves;
+
+import java.util.List;
+
+public class FrScalarAccumulator implements ScalarAccumulator {
+
+    private final long[] acc = new long[4];
+
+    private final long[] tmp = new long[4];
+
+    @Override
+    public ScalarAccumulator set(Scalar value) {
+        System.arraycopy(values(value), 0, acc, 0, acc.length);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator set(ScalarVector vector, int idx) {
+        FrScalarVector.load(vector, idx, acc, 0);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator addAssign(Scalar other) {
+        FrScalar.add(acc, values(other), acc);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator addAssign(ScalarAccumulator other) {
+        FrScalar.add(acc, ((FrScalarAccumulator)other).acc, acc);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator addAssign(ScalarVector vector, int idx) {
+        if (!(vector instanceof FrScalarVector)) {
+            FrScalarVector.load(vector, idx, tmp, 0);
+            FrScalar.add(acc, tmp, acc);
+            return this;
+        }
+        FrScalar.add(acc, 0, ((FrScalarVector)vector).limbs(), idx * 4, acc, 0);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator subAssign(Scalar other) {
+        FrScalar.sub(acc, values(other), acc);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator subAssign(ScalarVector vector, int idx) {
+        if (!(vector instanceof FrScalarVector)) {
+            FrScalarVector.load(vector, idx, tmp, 0);
+            FrScalar.sub(acc, tmp, acc);
+            return this;
+        }
+        FrScalar.sub(acc, 0, ((FrScalarVector)vector).limbs(), idx * 4, acc, 0);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator mulAssign(Scalar other) {
+        FrScalar.mul(acc, values(other), acc);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator mulAssign(ScalarVector vector, int idx) {
+        if (!(vector instanceof FrScalarVector)) {
+            FrScalarVector.load(vector, idx, tmp, 0);
+            FrScalar.mul(acc, tmp, acc);
+            return this;
+        }
+        FrScalar.mul(acc, 0, ((FrScalarVector)vector).limbs(), idx * 4, acc, 0);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator fma(Scalar a, Scalar b) {
+        FrScalar.mul(values(a), values(b), tmp);
+        FrScalar.add(acc, tmp, acc);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator sumOfProducts(List<Scalar> a, List<Scalar> b) {
+        if (a.size() != b.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        for (int i = 0; i < a.size(); i++) {
+            FrScalar.mul(values(a.get(i)), values(b.get(i)), tmp);
+            FrScalar.add(acc, tmp, acc);
+        }
+        return this;
+    }
+
+    @Override
+    public Scalar get() {
+        return new FrScalar(new BigInt(acc.clone()));
+    }
+
+    private static long[] values(Scalar value) {
+        return ((FrScalar)value).getValue().getValues();
+    }
+}
@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.security.SecureRandom;
+import java.util.List;
 
 @Getter
 @EqualsAndHashCode
@@ -68,6 +69,21 @@ public class FrScalarFactory implements ScalarFactory {
         return fromBits(r);
     }
 
+    @Override
+    public ScalarAccumulator accumulator() {
+        return new FrScalarAccumulator();
+    }
+
+    @Override
+    public ScalarVector vector(int size) {
+        return new FrScalarVector(size);
+    }
+
+    @Override
+    public ScalarVector vector(List<Scalar> values) {
+        return FrScalarVector.fromList(values);
+    }
+
     @Override
     public int serializedSize() {
         return 32;
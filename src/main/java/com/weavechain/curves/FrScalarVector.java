@@ -0,0 +1,300 @@
+package com.weavechain.curves;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class FrScalarVector implements ScalarVector {
+
+    private static final int N = 4;
+
+    private long[] limbs;
+
+    private int size;
+
+    public FrScalarVector(int size) {
+        this(new long[size * N], size);
+    }
+
+    public FrScalarVector(long[] limbs, int size) {
+        this.limbs = limbs;
+        this.size = size;
+    }
+
+    public static FrScalarVector fromList(List<Scalar> values) {
+        FrScalarVector res = new FrScalarVector(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            res.set(i, values.get(i));
+        }
+        return res;
+    }
+
+    long[] limbs() {
+        return limbs;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Scalar get(int idx) {
+        checkIndex(idx);
+        return new FrScalar(new BigInt(Arrays.copyOfRange(limbs, idx * N, idx * N + N)));
+    }
+
+    @Override
+    public void set(int idx, Scalar value) {
+        checkIndex(idx);
+        System.arraycopy(((FrScalar)value).getValue().getValues(), 0, limbs, idx * N, N);
+    }
+
+    @Override
+    public void set(int idx, ScalarVector src, int srcIdx) {
+        checkIndex(idx);
+        load(src, srcIdx, limbs, idx * N);
+    }
+
+    @Override
+    public void resize(int size) {
+        if (size * N > limbs.length) {
+            limbs = Arrays.copyOf(limbs, Math.max(size, 2 * this.size) * N);
+        }
+        if (size > this.size) {
+            Arrays.fill(limbs, this.size * N, size * N, 0L);
+        }
+        this.size = size;
+    }
+
+    @Override
+    public void append(ScalarVector other) {
+        if (!(other instanceof FrScalarVector)) {
+            int offset = size;
+            resize(offset + other.size());
+            for (int i = 0; i < other.size(); i++) {
+                load(other, i, limbs, (offset + i) * N);
+            }
+            return;
+        }
+
+        FrScalarVector o = (FrScalarVector)other;
+        int offset = size;
+        int count = o.size;
+        resize(offset + count);
+        System.arraycopy(o.limbs, 0, limbs, offset * N, count * N);
+    }
+
+    @Override
+    public ScalarVector slice(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+        return new FrScalarVector(Arrays.copyOfRange(limbs, from * N, to * N), to - from);
+    }
+
+    @Override
+    public ScalarVector copy() {
+        return slice(0, size);
+    }
+
+    @Override
+    public void bindTop(Scalar r) {
+        int n = size / 2;
+        bindTop(r, 0, n);
+        size = n;
+    }
+
+    @Override
+    public void bindTop(Scalar r, int from, int to) {
+        bindTopInto(r, this, from, to);
+    }
+
+    @Override
+    public void bindBot(Scalar r) {
+        long[] rv = ((FrScalar)r).getValue().getValues();
+        long[] tmp = new long[N];
+        int n = size / 2;
+        for (int i = 0; i < n; i++) {
+            FrScalar.sub(limbs, (2 * i + 1) * N, limbs, 2 * i * N, tmp, 0);
+            FrScalar.mul(tmp, 0, rv, 0, tmp, 0);
+            FrScalar.add(limbs, 2 * i * N, tmp, 0, limbs, i * N);
+        }
+        size = n;
+    }
+
+    @Override
+    public void bindTopInto(Scalar r, ScalarVector dst, int from, int to) {
+        long[] out = ((FrScalarVector)dst).limbs;
+        long[] rv = ((FrScalar)r).getValue().getValues();
+        long[] tmp = new long[N];
+        int n = size / 2;
+        for (int i = from; i < to; i++) {
+            FrScalar.sub(limbs, (i + n) * N, limbs, i * N, tmp, 0);
+            FrScalar.mul(tmp, 0, rv, 0, tmp, 0);
+            FrScalar.add(limbs, i * N, tmp, 0, out, i * N);
+        }
+    }
+
+    @Override
+    public void bindBotInto(Scalar r, ScalarVector dst, int from, int to) {
+        long[] out = ((FrScalarVector)dst).limbs;
+        long[] rv = ((FrScalar)r).getValue().getValues();
+        long[] tmp = new long[N];
+        for (int i = from; i < to; i++) {
+            FrScalar.sub(limbs, (2 * i + 1) * N, limbs, 2 * i * N, tmp, 0);
+            FrScalar.mul(tmp, 0, rv, 0, tmp, 0);
+            FrScalar.add(limbs, 2 * i * N, tmp, 0, out, i * N);
+        }
+    }
+
+    @Override
+    public ScalarVector zeros(int size) {
+        return new FrScalarVector(size);
+    }
+
+    @Override
+    public void mul(int dst, int src, Scalar r) {
+        checkIndex(dst);
+        checkIndex(src);
+        FrScalar.mul(limbs, src * N, ((FrScalar)r).getValue().getValues(), 0, limbs, dst * N);
+    }
+
+    @Override
+    public void sub(int dst, int a, int b) {
+        checkIndex(dst);
+        checkIndex(a);
+        checkIndex(b);
+        FrScalar.sub(limbs, a * N, limbs, b * N, limbs, dst * N);
+    }
+
+    @Override
+    public void addScaled(ScalarVector other, int offset, Scalar s) {
+        if (offset < 0 || offset + size > other.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        long[] sv = ((FrScalar)s).getValue().getValues();
+        long[] tmp = new long[N];
+        for (int i = 0; i < size; i++) {
+            if (other instanceof FrScalarVector) {
+                FrScalar.mul(((FrScalarVector)other).limbs, (offset + i) * N, sv, 0, tmp, 0);
+            } else {
+                load(other, offset + i, tmp, 0);
+                FrScalar.mul(tmp, 0, sv, 0, tmp, 0);
+            }
+            FrScalar.add(limbs, i * N, tmp, 0, limbs, i * N);
+        }
+    }
+
+    @Override
+    public ScalarVector hadamard(ScalarVector other, int from, int to) {
+        if (from < 0 || to > size || to > other.size() || from > to) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        FrScalarVector res = new FrScalarVector(to - from);
+        hadamardInto(from, to, other, from, res, 0);
+        return res;
+    }
+
+    @Override
+    public void hadamardInto(int from, int to, ScalarVector other, int otherFrom, ScalarVector dst, int dstFrom) {
+        if (!(dst instanceof FrScalarVector)) {
+            for (int i = from; i < to; i++) {
+                dst.set(dstFrom + i - from, get(i).multiply(other.get(otherFrom + i - from)));
+            }
+            return;
+        }
+
+        long[] out = ((FrScalarVector)dst).limbs;
+        if (!(other instanceof FrScalarVector)) {
+            long[] tmp = new long[N];
+            for (int i = from; i < to; i++) {
+                load(other, otherFrom + i - from, tmp, 0);
+                FrScalar.mul(limbs, i * N, tmp, 0, out, (dstFrom + i - from) * N);
+            }
+            return;
+        }
+
+        FrScalarVector o = (FrScalarVector)other;
+        for (int i = from; i < to; i++) {
+            FrScalar.mul(limbs, i * N, o.limbs, (otherFrom + i - from) * N, out, (dstFrom + i - from) * N);
+        }
+    }
+
+    @Override
+    public Scalar dot(ScalarVector other) {
+        if (size != other.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+        return dot(other, 0);
+    }
+
+    @Override
+    public Scalar dot(ScalarVector other, int offset) {
+        if (offset < 0 || offset + other.size() > size) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        long[] acc = new long[N];
+        long[] tmp = new long[N];
+        for (int i = 0; i < other.size(); i++) {
+            if (other instanceof FrScalarVector) {
+                FrScalar.mul(limbs, (offset + i) * N, ((FrScalarVector)other).limbs, i * N, tmp, 0);
+            } else {
+                load(other, i, tmp, 0);
+                FrScalar.mul(limbs, (offset + i) * N, tmp, 0, tmp, 0);
+            }
+            FrScalar.add(acc, 0, tmp, 0, acc, 0);
+        }
+        return new FrScalar(new BigInt(acc));
+    }
+
+    @Override
+    public List<Scalar> toList() {
+        return new ListView();
+    }
+
+    // limbs of v[idx] into r[ro..ro + N), small integers are converted without allocating a scalar
+    static void load(ScalarVector v, int idx, long[] r, int ro) {
+        if (v instanceof FrScalarVector) {
+            System.arraycopy(((FrScalarVector)v).limbs, idx * N, r, ro, N);
+        } else if (v instanceof SmallScalarVector && !((SmallScalarVector)v).isPromoted()) {
+            FrScalar.fromLong(((SmallScalarVector)v).getLong(idx), r, ro);
+        } else {
+            System.arraycopy(values(v.get(idx)), 0, r, ro, N);
+        }
+    }
+
+    private static long[] values(Scalar s) {
+        return ((FrScalar)s).getValue().getValues();
+    }
+
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(idx);
+        }
+    }
+
+    private class ListView extends AbstractList<Scalar> implements RandomAccess {
+
+        @Override
+        public Scalar get(int index) {
+            return FrScalarVector.this.get(index);
+        }
+
+        @Override
+        public Scalar set(int index, Scalar element) {
+            Scalar prev = FrScalarVector.this.get(index);
+            FrScalarVector.this.set(index, element);
+            return prev;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
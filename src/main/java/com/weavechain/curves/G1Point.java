@@ -0,0 +1,88 @@
+package com.weavechain.curves;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import supranational.blst.P1;
+import supranational.blst.P1_Affine;
+
+import java.util.Arrays;
+
+@Getter
+public class G1Point implements Point {
+
+    public static final int G1_SERIALIZED_SIZE = 48;
+
+    public static final G1Point IDENTITY = new G1Point(P1.generator().add(P1.generator().neg()));
+
+    private final P1 point;
+
+    @Getter(AccessLevel.NONE)
+    private transient P1_Affine affine;
+
+    public G1Point(P1 point) {
+        this.point = point;
+    }
+
+    public P1_Affine toAffine() {
+        if (affine == null) {
+            affine = point.to_affine();
+        }
+        return affine;
+    }
+
+    public Point shift(int bits) {
+        P1 result = point.dup();
+        for (int i = 0; i < bits; i++) {
+            result.dbl();
+        }
+        return new G1Point(result);
+    }
+
+    public static Point fromBytes(byte[] input) {
+        return new G1Point(new P1(input));
+    }
+
+    @Override
+    public Point add(Point other) {
+        return new G1Point(point.dup().add(((G1Point)other).point));
+    }
+
+    @Override
+    public Point subtract(Point other) {
+        return new G1Point(point.dup().add(((G1Point)other).point.dup().neg()));
+    }
+
+    @Override
+    public Point multiply(Scalar scalar) {
+        supranational.blst.Scalar s = new supranational.blst.Scalar().from_lendian(scalar.toByteArray());
+        return new G1Point(point.dup().mult(s));
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        return point.compress();
+    }
+
+    @Override
+    public String toString() {
+        return point.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        } else if (other == null) {
+            return false;
+        } else if (getClass() != other.getClass()) {
+            return false;
+        } else {
+            return point.is_equal(((G1Point)other).point);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toByteArray());
+    }
+}
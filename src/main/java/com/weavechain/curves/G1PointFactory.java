@@ -0,0 +1,89 @@
+package com.weavechain.curves;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import supranational.blst.P1;
+import supranational.blst.P1_Affine;
+import supranational.blst.P1_Affines;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.function.BiFunction;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class G1PointFactory implements PointFactory {
+
+    private static final G1Point ZERO = G1Point.IDENTITY;
+
+    private static final G1Point GEN = new G1Point(P1.generator());
+
+    private static final BiFunction<Point, Integer, Point> SHIFT = (p, bits) -> ((G1Point)p).shift(bits);
+
+    private static final NativeMsm<P1_Affine> NATIVE_MSM = new NativeMsm<>(
+            P1_Affine[]::new,
+            p -> ((G1Point)p).toAffine(),
+            (affines, scalars, bits) -> new G1Point(P1_Affines.mult_pippenger(affines, scalars, bits))
+    );
+
+    public static final BigInteger G = new BigInteger("97f1d3a73197d7942695638c4fa9ac0fc3688c4f9774b905a14e3a3f171bac586c55e83ff97a1aeffb3af00adb22c6bb", 16);
+
+    @Override
+    public Point zero() {
+        return ZERO;
+    }
+
+    @Override
+    public Point generator() {
+        return GEN;
+    }
+
+    @Override
+    public int compressedSize() {
+        return 48;
+    }
+
+    @Override
+    public Point fromUniformBytes(byte[] input) {
+        return new G1Point(P1.generator().hash_to(input));
+    }
+
+    @Override
+    public Point fromCompressedBytes(byte[] input) throws IOException {
+        return G1Point.fromBytes(input);
+    }
+
+    @Override
+    public Point multiscalarMul(List<Scalar> scalars, List<Point> bases) {
+        if (ParallelMsm.enabled(scalars.size())) {
+            return ParallelMsm.multiscalarMul(scalars, bases, G1PointFactory::mulSequential);
+        }
+        return mulSequential(scalars, bases);
+    }
+
+    public static Point mulSequential(List<Scalar> scalars, List<Point> bases) {
+        if (NATIVE_MSM.isEnabled() && scalars.size() >= NativeMsm.THRESHOLD) {
+            Point result = NATIVE_MSM.mul(scalars, bases);
+            if (result != null) {
+                return result;
+            }
+        }
+        return mulJava(scalars, bases);
+    }
+
+    static void setUseNativeMsm(boolean value) {
+        NATIVE_MSM.setEnabled(value);
+    }
+
+    public static Point mulJava(List<Scalar> scalars, List<Point> bases) {
+        return WindowedMsm.mul(scalars, bases, G1Point.IDENTITY, SHIFT);
+    }
+
+    // null when the native library lacks the pippenger entry point
+    public static Point mulNative(List<Scalar> scalars, List<Point> points) {
+        return NATIVE_MSM.mul(scalars, points);
+    }
+}
@@ -1,8 +1,10 @@
 package com.weavechain.curves;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import supranational.blst.P2;
+import supranational.blst.P2_Affine;
 
 @Getter
 @EqualsAndHashCode
@@ -14,10 +16,28 @@ public class G2Point implements Point {
 
     private final P2 point;
 
+    @Getter(AccessLevel.NONE)
+    private transient P2_Affine affine;
+
     public G2Point(P2 point) {
         this.point = point;
     }
 
+    public P2_Affine toAffine() {
+        if (affine == null) {
+            affine = point.to_affine();
+        }
+        return affine;
+    }
+
+    public Point shift(int bits) {
+        P2 result = point.dup();
+        for (int i = 0; i < bits; i++) {
+            result.dbl();
+        }
+        return new G2Point(result);
+    }
+
     public static Point fromBytes(byte[] input) {
         return new G2Point(new P2(input));
     }
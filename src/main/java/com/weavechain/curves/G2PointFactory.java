@@ -1,17 +1,16 @@
 package com.weavechain.curves;
 
-import com.weavechain.curve25519.MulUtils;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import supranational.blst.P2;
+import supranational.blst.P2_Affine;
+import supranational.blst.P2_Affines;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
 
 @Getter
 @EqualsAndHashCode
@@ -22,6 +21,14 @@ public class G2PointFactory implements PointFactory {
 
     private static final G2Point GEN = new G2Point(P2.generator());
 
+    private static final BiFunction<Point, Integer, Point> SHIFT = (p, bits) -> ((G2Point)p).shift(bits);
+
+    private static final NativeMsm<P2_Affine> NATIVE_MSM = new NativeMsm<>(
+            P2_Affine[]::new,
+            p -> ((G2Point)p).toAffine(),
+            (affines, scalars, bits) -> new G2Point(P2_Affines.mult_pippenger(affines, scalars, bits))
+    );
+
     public static final BigInteger G = new BigInteger("93e02b6052719f607dacd3a088274f65596bd0d09920b61ab5da61bbdc7f5049334cf11213945d57e5ac7d055d042b7e024aa2b2f08f0a91260805272dc51051c6e47ad4fa403b02b4510b647ae3d1770bac0326a805bbefd48056c8c121bdb8", 16);
 
     @Override
@@ -51,157 +58,43 @@ public class G2PointFactory implements PointFactory {
 
     @Override
     public Point multiscalarMul(List<Scalar> scalars, List<Point> bases) {
-        if (scalars.size() >= 30) {
-            return mulPippenger(scalars, bases);
-        } else if (scalars.size() > 3) {
-            return mulStraus(scalars, bases);
-        } else {
-            Point result = null;
-            for (int i = 0; i < scalars.size(); i++) {
-                Point p =  bases.get(i).multiply(scalars.get(i));
-                result = result != null ?  result.add(p) : p;
-            }
-            return result;
+        if (ParallelMsm.enabled(scalars.size())) {
+            return ParallelMsm.multiscalarMul(scalars, bases, G2PointFactory::mulSequential);
         }
+        return mulSequential(scalars, bases);
     }
 
-    public static Point mulStraus(List<Scalar> scalars, List<Point> points) {
-        List<Point[]> lookupTables = new ArrayList<>();
-        for (Point point : points) {
-            lookupTables.add(createLookupTable(point));
-        }
-
-        List<byte[]> scalarRadix = new ArrayList<>();
-        for (Scalar scalar : scalars) {
-            scalarRadix.add(toRadix16(scalar));
-        }
-
-        Point Q = G2Point.IDENTITY;
-
-        for (int i = 63; i >= 0; i--) {
-            Q = Q.multiply(FrScalar.fromLong(16));
-
-            for (int j = 0; j < points.size(); j++) {
-                byte digit = scalarRadix.get(j)[i];
-                if (digit != 0) {
-                    Point term = lookupTables.get(j)[Math.abs(digit)];
-                    Q = digit > 0 ? Q.add(term) : Q.subtract(term);
-                }
+    public static Point mulSequential(List<Scalar> scalars, List<Point> bases) {
+        if (NATIVE_MSM.isEnabled() && scalars.size() >= NativeMsm.THRESHOLD) {
+            Point result = NATIVE_MSM.mul(scalars, bases);
+            if (result != null) {
+                return result;
             }
         }
-
-        return Q;
+        return mulJava(scalars, bases);
     }
 
-    public static Point mulPippenger(List<Scalar> scalars, List<Point> points) {
-        int c = points.size() < 500 ? 6 : points.size() < 800 ? 7 : 8;
-
-        List<byte[]> scalarRadix = new ArrayList<>();
-        for (Scalar scalar : scalars) {
-            scalarRadix.add(toRadix2w(scalar, c));
-        }
-
-        int bucketsCount = 1 << (c - 1);
-        int digits = (255 + c - 1) / c;
-
-        Point Q = null;
-
-        for (int k = digits - 1; k >= 0; k--) {
-            Point[] buckets = new G2Point[bucketsCount];
-            for (int i = 0; i < bucketsCount; i++) {
-                buckets[i] = G2Point.IDENTITY;
-            }
-
-            for (int i = 0; i < points.size(); i++) {
-                byte d = scalarRadix.get(i)[k];
-                if (d != 0) {
-                    int idx = Math.abs(d) - 1;
-                    buckets[idx] = d > 0
-                            ? buckets[idx].add(points.get(i))
-                            : buckets[idx].subtract(points.get(i));
-                }
-            }
-
-            Point sum = buckets[bucketsCount - 1];
-            Point bsum = buckets[bucketsCount - 1];
-            for (int i = bucketsCount - 2; i >= 0; i--) {
-                sum = sum.add(buckets[i]);
-                bsum = bsum.add(sum);
-            }
-
-            if (Q == null) {
-                Q = bsum;
-            } else {
-                Q = Q.multiply(FrScalar.fromBigInteger(BigInteger.ONE.shiftLeft(c))).add(bsum);
-            }
-        }
-
-        return Q;
+    static void setUseNativeMsm(boolean value) {
+        NATIVE_MSM.setEnabled(value);
     }
 
-    private static Point[] createLookupTable(Point point) {
-        Point[] table = new G2Point[9];
-        table[0] = G2Point.IDENTITY;
-        table[1] = point;
-        for (int i = 2; i <= 8; i++) {
-            table[i] = table[i - 1].add(point);
-        }
-        return table;
+    public static Point mulJava(List<Scalar> scalars, List<Point> bases) {
+        return WindowedMsm.mul(scalars, bases, G2Point.IDENTITY, SHIFT);
     }
 
-    private static byte[] toRadix16(Scalar scalar) {
-        byte[] s = scalar.toByteArray();
-        final byte[] e = new byte[64];
-        int i;
-        for (i = 0; i < 32; i++) {
-            e[2 * i + 0] = (byte) (s[i] & 15);
-            e[2 * i + 1] = (byte) ((s[i] >> 4) & 15);
-        }
-        int carry = 0;
-        for (i = 0; i < 63; i++) {
-            e[i] += carry;
-            carry = e[i] + 8;
-            carry >>= 4;
-            e[i] -= carry << 4;
-        }
-        e[63] += carry;
-        return e;
+    // kept for existing callers, mulJava picks the algorithm by size
+    @Deprecated
+    public static Point mulStraus(List<Scalar> scalars, List<Point> points) {
+        return WindowedMsm.mulStraus(scalars, points, G2Point.IDENTITY, SHIFT);
     }
 
-    private static byte[] toRadix2w(Scalar scalar, int w) {
-        long[] scalar64x4 = new long[4];
-        ByteBuffer.wrap(scalar.toByteArray()).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(scalar64x4);
-
-        long radix = 1L << w;
-        long windowMask = radix - 1;
-
-        long carry = 0L;
-        byte[] digits = new byte[43];
-        int digitsCount = (256 + w - 1) / w;
-        for (int i = 0; i < digitsCount; i++) {
-            int bitOffset = i * w;
-            int u64Idx = bitOffset / 64;
-            int bitIdx = bitOffset % 64;
-
-            long bitBuf;
-            if (bitIdx < 64 - w || u64Idx == 3) {
-                bitBuf = scalar64x4[u64Idx] >>> bitIdx;
-            } else {
-                bitBuf = (scalar64x4[u64Idx] >>> bitIdx) | (scalar64x4[1 + u64Idx] << (64 - bitIdx));
-            }
-
-            long coef = carry + (bitBuf & windowMask);
-
-            carry = (coef + (radix / 2)) >>> w;
-            digits[i] = (byte) ((coef - (carry << w)));
-        }
-
-        if (w == 8) {
-            digits[digitsCount] += carry;
-        } else {
-            digits[digitsCount - 1] += (carry << w);
-        }
+    @Deprecated
+    public static Point mulPippenger(List<Scalar> scalars, List<Point> points) {
+        return WindowedMsm.mulPippenger(scalars, points, G2Point.IDENTITY, SHIFT);
+    }
 
-        return digits;
+    // null when the native library lacks the pippenger entry point
+    public static Point mulNative(List<Scalar> scalars, List<Point> points) {
+        return NATIVE_MSM.mul(scalars, points);
     }
 }
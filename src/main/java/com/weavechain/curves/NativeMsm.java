@@ -0,0 +1,65 @@
+package com.weavechain.curves;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+// blst Pippenger for the G1 and G2 factories, A is the curve's affine type; switched off for good once the native library lacks the entry point
+class NativeMsm<A> {
+
+    static final int THRESHOLD = 4;
+
+    private static final int SCALAR_BITS = 255;
+
+    private static final int SCALAR_BYTES = 32;
+
+    interface Kernel<A> {
+
+        Point mul(A[] affines, byte[] scalars, int bits);
+    }
+
+    private final IntFunction<A[]> newArray;
+
+    private final Function<Point, A> toAffine;
+
+    private final Kernel<A> kernel;
+
+    private volatile boolean enabled = true;
+
+    NativeMsm(IntFunction<A[]> newArray, Function<Point, A> toAffine, Kernel<A> kernel) {
+        this.newArray = newArray;
+        this.toAffine = toAffine;
+        this.kernel = kernel;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    // null when the native entry point is missing
+    Point mul(List<Scalar> scalars, List<Point> points) {
+        if (scalars.size() != points.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        int n = points.size();
+        A[] affines = newArray.apply(n);
+        byte[] packed = new byte[n * SCALAR_BYTES];
+        for (int i = 0; i < n; i++) {
+            affines[i] = toAffine.apply(points.get(i));
+            System.arraycopy(scalars.get(i).toByteArray(), 0, packed, i * SCALAR_BYTES, SCALAR_BYTES);
+        }
+
+        try {
+            return kernel.mul(affines, packed, SCALAR_BITS);
+        } catch (LinkageError e) {
+            // older native builds do not export the pippenger entry point
+            enabled = false;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.weavechain.curves;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+
+public class ParallelMsm {
+
+    private static volatile ForkJoinPool POOL = ForkJoinPool.commonPool();
+
+    private static volatile int THRESHOLD = 512;
+
+    public static void configure(ForkJoinPool pool, int threshold) {
+        POOL = pool;
+        THRESHOLD = threshold;
+    }
+
+    public static ForkJoinPool getPool() {
+        return POOL;
+    }
+
+    public static int getThreshold() {
+        return THRESHOLD;
+    }
+
+    public static boolean enabled(int size) {
+        return size >= THRESHOLD && POOL.getParallelism() > 1;
+    }
+
+    // splits along the bases, chunk results are summed back in order
+    public static Point multiscalarMul(List<Scalar> scalars, List<Point> bases, BiFunction<List<Scalar>, List<Point>, Point> sequential) {
+        if (scalars.size() != bases.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        ForkJoinPool pool = POOL;
+        int n = scalars.size();
+        int chunks = Math.min(pool.getParallelism(), n / Math.max(1, THRESHOLD / 2));
+        if (chunks < 2) {
+            return sequential.apply(scalars, bases);
+        }
+
+        int chunkSize = (n + chunks - 1) / chunks;
+        return pool.invoke(new MsmTask(scalars, bases, 0, n, chunkSize, sequential));
+    }
+
+    private static class MsmTask extends RecursiveTask<Point> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Scalar> scalars;
+
+        private final List<Point> bases;
+
+        private final int from;
+
+        private final int to;
+
+        private final int chunkSize;
+
+        private final BiFunction<List<Scalar>, List<Point>, Point> sequential;
+
+        MsmTask(List<Scalar> scalars, List<Point> bases, int from, int to, int chunkSize, BiFunction<List<Scalar>, List<Point>, Point> sequential) {
+            this.scalars = scalars;
+            this.bases = bases;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.sequential = sequential;
+        }
+
+        @Override
+        protected Point compute() {
+            if (to - from <= chunkSize) {
+                return sequential.apply(scalars.subList(from, to), bases.subList(from, to));
+            }
+
+            int count = (to - from + chunkSize - 1) / chunkSize;
+            int mid = from + count / 2 * chunkSize;
+            MsmTask left = new MsmTask(scalars, bases, from, mid, chunkSize, sequential);
+            left.fork();
+            Point right = new MsmTask(scalars, bases, mid, to, chunkSize, sequential).compute();
+            return left.join().add(right);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.weavechain.curves;
+
+import java.util.List;
+
+public class RScalar25519Accumulator implements ScalarAccumulator {
+
+    private com.weavechain.curve25519.Scalar acc = com.weavechain.curve25519.Scalar.ZERO;
+
+    @Override
+    public ScalarAccumulator set(Scalar value) {
+        acc = unwrap(value);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator set(ScalarVector vector, int idx) {
+        return set(vector.get(idx));
+    }
+
+    @Override
+    public ScalarAccumulator addAssign(Scalar other) {
+        acc = acc.add(unwrap(other));
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator addAssign(ScalarAccumulator other) {
+        acc = acc.add(((RScalar25519Accumulator)other).acc);
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator addAssign(ScalarVector vector, int idx) {
+        return addAssign(vector.get(idx));
+    }
+
+    @Override
+    public ScalarAccumulator subAssign(Scalar other) {
+        acc = acc.subtract(unwrap(other));
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator subAssign(ScalarVector vector, int idx) {
+        return subAssign(vector.get(idx));
+    }
+
+    @Override
+    public ScalarAccumulator mulAssign(Scalar other) {
+        acc = acc.multiply(unwrap(other));
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator mulAssign(ScalarVector vector, int idx) {
+        return mulAssign(vector.get(idx));
+    }
+
+    @Override
+    public ScalarAccumulator fma(Scalar a, Scalar b) {
+        acc = acc.add(unwrap(a).multiply(unwrap(b)));
+        return this;
+    }
+
+    @Override
+    public ScalarAccumulator sumOfProducts(List<Scalar> a, List<Scalar> b) {
+        if (a.size() != b.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        for (int i = 0; i < a.size(); i++) {
+            acc = acc.add(unwrap(a.get(i)).multiply(unwrap(b.get(i))));
+        }
+        return this;
+    }
+
+    @Override
+    public Scalar get() {
+        return new RScalar25519(acc);
+    }
+
+    private static com.weavechain.curve25519.Scalar unwrap(Scalar value) {
+        return ((RScalar25519)value).getScalar();
+    }
+}
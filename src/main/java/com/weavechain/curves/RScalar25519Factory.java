@@ -7,6 +7,7 @@ import lombok.Getter;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.security.SecureRandom;
+import java.util.List;
 
 @Getter
 @EqualsAndHashCode
@@ -69,6 +70,21 @@ public class RScalar25519Factory implements ScalarFactory {
         return fromBits(r);
     }
 
+    @Override
+    public ScalarAccumulator accumulator() {
+        return new RScalar25519Accumulator();
+    }
+
+    @Override
+    public ScalarVector vector(int size) {
+        return new ArrayScalarVector(size, ZERO);
+    }
+
+    @Override
+    public ScalarVector vector(List<Scalar> values) {
+        return new ArrayScalarVector(values, ZERO);
+    }
+
     @Override
     public int serializedSize() {
         return 32;
@@ -54,6 +54,13 @@ public class RistrettoPointFactory implements PointFactory {
 
     @Override
     public Point multiscalarMul(List<Scalar> scalars, List<Point> bases) {
+        if (ParallelMsm.enabled(scalars.size())) {
+            return ParallelMsm.multiscalarMul(scalars, bases, RistrettoPointFactory::mulSequential);
+        }
+        return mulSequential(scalars, bases);
+    }
+
+    public static Point mulSequential(List<Scalar> scalars, List<Point> bases) {
         List<com.weavechain.curve25519.Scalar> s = new ArrayList<>();
         for (Scalar it : scalars) {
             s.add(((RScalar25519)it).getScalar());
@@ -64,5 +71,4 @@ public class RistrettoPointFactory implements PointFactory {
         }
         return new RistrettoPoint(MulUtils.multiscalarMulOpt(s, p));
     }
-
 }
@@ -0,0 +1,31 @@
+package com.weavechain.curves;
+
+import java.util.List;
+
+// Mutable, single-threaded accumulator for reductions in hot loops
+public interface ScalarAccumulator {
+
+    ScalarAccumulator set(Scalar value);
+
+    ScalarAccumulator set(ScalarVector vector, int idx);
+
+    ScalarAccumulator addAssign(Scalar other);
+
+    ScalarAccumulator addAssign(ScalarAccumulator other);
+
+    ScalarAccumulator addAssign(ScalarVector vector, int idx);
+
+    ScalarAccumulator subAssign(Scalar other);
+
+    ScalarAccumulator subAssign(ScalarVector vector, int idx);
+
+    ScalarAccumulator mulAssign(Scalar other);
+
+    ScalarAccumulator mulAssign(ScalarVector vector, int idx);
+
+    ScalarAccumulator fma(Scalar a, Scalar b);
+
+    ScalarAccumulator sumOfProducts(List<Scalar> a, List<Scalar> b);
+
+    Scalar get();
+}
@@ -1,5 +1,9 @@
 package com.weavechain.curves;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 public interface ScalarFactory {
 
     Scalar zero();
@@ -18,5 +22,38 @@ public interface ScalarFactory {
 
     Scalar rndScalar();
 
+    ScalarAccumulator accumulator();
+
+    ScalarVector vector(int size);
+
+    ScalarVector vector(List<Scalar> values);
+
     int serializedSize();
+
+    // Montgomery's trick, one inversion and 3(n - 1) multiplications; zeros map to zero
+    default List<Scalar> batchInvert(List<Scalar> values) {
+        Scalar ZERO = zero();
+
+        List<Scalar> prefix = new ArrayList<>(values.size());
+        Scalar acc = one();
+        for (Scalar v : values) {
+            prefix.add(acc);
+            if (!v.equals(ZERO)) {
+                acc = acc.multiply(v);
+            }
+        }
+
+        Scalar inv = acc.invert();
+        Scalar[] result = new Scalar[values.size()];
+        for (int i = values.size() - 1; i >= 0; i--) {
+            Scalar v = values.get(i);
+            if (v.equals(ZERO)) {
+                result[i] = ZERO;
+            } else {
+                result[i] = inv.multiply(prefix.get(i));
+                inv = inv.multiply(v);
+            }
+        }
+        return Arrays.asList(result);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.weavechain.curves;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+class ScalarRadix {
+
+    static byte[] toRadix16(Scalar scalar) {
+        byte[] s = scalar.toByteArray();
+        final byte[] e = new byte[64];
+        int i;
+        for (i = 0; i < 32; i++) {
+            e[2 * i + 0] = (byte) (s[i] & 15);
+            e[2 * i + 1] = (byte) ((s[i] >> 4) & 15);
+        }
+        int carry = 0;
+        for (i = 0; i < 63; i++) {
+            e[i] += carry;
+            carry = e[i] + 8;
+            carry >>= 4;
+            e[i] -= carry << 4;
+        }
+        e[63] += carry;
+        return e;
+    }
+
+    static byte[] toRadix2w(Scalar scalar, int w) {
+        long[] scalar64x4 = new long[4];
+        ByteBuffer.wrap(scalar.toByteArray()).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(scalar64x4);
+
+        long radix = 1L << w;
+        long windowMask = radix - 1;
+
+        long carry = 0L;
+        byte[] digits = new byte[43];
+        int digitsCount = (256 + w - 1) / w;
+        for (int i = 0; i < digitsCount; i++) {
+            int bitOffset = i * w;
+            int u64Idx = bitOffset / 64;
+            int bitIdx = bitOffset % 64;
+
+            long bitBuf;
+            if (bitIdx < 64 - w || u64Idx == 3) {
+                bitBuf = scalar64x4[u64Idx] >>> bitIdx;
+            } else {
+                bitBuf = (scalar64x4[u64Idx] >>> bitIdx) | (scalar64x4[1 + u64Idx] << (64 - bitIdx));
+            }
+
+            long coef = carry + (bitBuf & windowMask);
+
+            carry = (coef + (radix / 2)) >>> w;
+            digits[i] = (byte) ((coef - (carry << w)));
+        }
+
+        if (w == 8) {
+            digits[digitsCount] += carry;
+        } else {
+            digits[digitsCount - 1] += (carry << w);
+        }
+
+        return digits;
+    }
+}
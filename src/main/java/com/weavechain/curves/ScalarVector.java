@@ -0,0 +1,65 @@
+package com.weavechain.curves;
+
+import java.util.List;
+
+// Contiguous vector of field elements, implementations may keep the values unboxed
+public interface ScalarVector {
+
+    int size();
+
+    Scalar get(int idx);
+
+    void set(int idx, Scalar value);
+
+    void set(int idx, ScalarVector src, int srcIdx);
+
+    // truncates, or pads with zeros
+    void resize(int size);
+
+    void append(ScalarVector other);
+
+    ScalarVector slice(int from, int to);
+
+    ScalarVector copy();
+
+    // z[i] = z[i] + r * (z[i + n] - z[i]) for n = size / 2, then truncates to n
+    void bindTop(Scalar r);
+
+    // bindTop restricted to i in [from, to), the size is left unchanged so disjoint ranges can be bound concurrently
+    void bindTop(Scalar r, int from, int to);
+
+    // z[i] = z[2i] + r * (z[2i + 1] - z[2i]) for n = size / 2, then truncates to n
+    void bindBot(Scalar r);
+
+    // dst[i] = z[i] + r * (z[i + n] - z[i]) for i in [from, to) and n = size / 2, dst may be this vector
+    void bindTopInto(Scalar r, ScalarVector dst, int from, int to);
+
+    // dst[i] = z[2i] + r * (z[2i + 1] - z[2i]) for i in [from, to), dst must not be this vector
+    void bindBotInto(Scalar r, ScalarVector dst, int from, int to);
+
+    // zero vector of the same representation
+    ScalarVector zeros(int size);
+
+    // z[dst] = z[src] * r
+    void mul(int dst, int src, Scalar r);
+
+    // z[dst] = z[a] - z[b]
+    void sub(int dst, int a, int b);
+
+    // z[i] += s * other[offset + i] for i in [0, size)
+    void addScaled(ScalarVector other, int offset, Scalar s);
+
+    // z[from..to) * other[from..to) element-wise, as a new vector
+    ScalarVector hadamard(ScalarVector other, int from, int to);
+
+    // dst[dstFrom + i - from] = z[i] * other[otherFrom + i - from] for i in [from, to), dst may be this vector if the ranges do not overlap
+    void hadamardInto(int from, int to, ScalarVector other, int otherFrom, ScalarVector dst, int dstFrom);
+
+    Scalar dot(ScalarVector other);
+
+    // sum of z[offset + j] * other[j] over the whole of other
+    Scalar dot(ScalarVector other, int offset);
+
+    // live view, reads of unboxed implementations allocate
+    List<Scalar> toList();
+}
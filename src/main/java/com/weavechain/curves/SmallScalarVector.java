@@ -0,0 +1,271 @@
+package com.weavechain.curves;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Small non-negative integers (addresses, timestamps) kept unpromoted, field elements are created on read.
+// The first mutation promotes the whole vector to the factory representation, callers binding in parallel promote up front.
+public class SmallScalarVector implements ScalarVector {
+
+    private static final int BUCKETS = 64;
+
+    private final ScalarFactory scalarFactory;
+
+    private long[] values;
+
+    private int size;
+
+    private volatile ScalarVector promoted;
+
+    public SmallScalarVector(long[] values, ScalarFactory scalarFactory) {
+        this.scalarFactory = scalarFactory;
+        this.values = values;
+        this.size = values.length;
+    }
+
+    public static SmallScalarVector fromList(List<Long> values, ScalarFactory scalarFactory) {
+        long[] res = new long[values.size()];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = values.get(i);
+        }
+        return new SmallScalarVector(res, scalarFactory);
+    }
+
+    public boolean isPromoted() {
+        return promoted != null;
+    }
+
+    public long getLong(int idx) {
+        if (promoted != null) {
+            throw new IllegalStateException("Promoted vector");
+        }
+        checkIndex(idx);
+        return values[idx];
+    }
+
+    public synchronized ScalarVector promote() {
+        if (promoted == null) {
+            ScalarVector res = scalarFactory.vector(size);
+            for (int i = 0; i < size; i++) {
+                res.set(i, this, i);
+            }
+            promoted = res;
+            values = null;
+        }
+        return promoted;
+    }
+
+    @Override
+    public int size() {
+        return promoted != null ? promoted.size() : size;
+    }
+
+    // allocates a field element, hot loops read through ScalarAccumulator.set(vector, idx) or the vector ops
+    @Override
+    public Scalar get(int idx) {
+        if (promoted != null) {
+            return promoted.get(idx);
+        }
+        checkIndex(idx);
+        return scalarFactory.scalar(values[idx]);
+    }
+
+    @Override
+    public void set(int idx, Scalar value) {
+        promote().set(idx, value);
+    }
+
+    @Override
+    public void set(int idx, ScalarVector src, int srcIdx) {
+        promote().set(idx, src, srcIdx);
+    }
+
+    @Override
+    public void resize(int size) {
+        if (promoted != null) {
+            promoted.resize(size);
+            return;
+        }
+        if (size > values.length) {
+            values = Arrays.copyOf(values, Math.max(size, 2 * this.size));
+        }
+        if (size > this.size) {
+            Arrays.fill(values, this.size, size, 0L);
+        }
+        this.size = size;
+    }
+
+    @Override
+    public void append(ScalarVector other) {
+        if (promoted == null && other instanceof SmallScalarVector && !((SmallScalarVector)other).isPromoted()) {
+            SmallScalarVector o = (SmallScalarVector)other;
+            int offset = size;
+            int count = o.size;
+            resize(offset + count);
+            System.arraycopy(o.values, 0, values, offset, count);
+            return;
+        }
+        promote().append(other);
+    }
+
+    @Override
+    public ScalarVector slice(int from, int to) {
+        if (promoted != null) {
+            return promoted.slice(from, to);
+        }
+        if (from < 0 || to > size || from > to) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+        return new SmallScalarVector(Arrays.copyOfRange(values, from, to), scalarFactory);
+    }
+
+    @Override
+    public ScalarVector copy() {
+        return slice(0, size());
+    }
+
+    @Override
+    public void bindTop(Scalar r) {
+        promote().bindTop(r);
+    }
+
+    @Override
+    public void bindTop(Scalar r, int from, int to) {
+        promote().bindTop(r, from, to);
+    }
+
+    @Override
+    public void bindBot(Scalar r) {
+        promote().bindBot(r);
+    }
+
+    @Override
+    public void bindTopInto(Scalar r, ScalarVector dst, int from, int to) {
+        promote().bindTopInto(r, dst == this ? promoted : dst, from, to);
+    }
+
+    @Override
+    public void bindBotInto(Scalar r, ScalarVector dst, int from, int to) {
+        promote().bindBotInto(r, dst, from, to);
+    }
+
+    @Override
+    public ScalarVector zeros(int size) {
+        return scalarFactory.vector(size);
+    }
+
+    @Override
+    public void mul(int dst, int src, Scalar r) {
+        promote().mul(dst, src, r);
+    }
+
+    @Override
+    public void sub(int dst, int a, int b) {
+        promote().sub(dst, a, b);
+    }
+
+    @Override
+    public void addScaled(ScalarVector other, int offset, Scalar s) {
+        promote().addScaled(other, offset, s);
+    }
+
+    @Override
+    public ScalarVector hadamard(ScalarVector other, int from, int to) {
+        if (from < 0 || to > size() || to > other.size() || from > to) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        ScalarVector res = scalarFactory.vector(to - from);
+        hadamardInto(from, to, other, from, res, 0);
+        return res;
+    }
+
+    @Override
+    public void hadamardInto(int from, int to, ScalarVector other, int otherFrom, ScalarVector dst, int dstFrom) {
+        ScalarAccumulator acc = scalarFactory.accumulator();
+        for (int i = from; i < to; i++) {
+            dst.set(dstFrom + i - from, acc.set(this, i).mulAssign(other, otherFrom + i - from).get());
+        }
+    }
+
+    @Override
+    public Scalar dot(ScalarVector other) {
+        if (size() != other.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+        return dot(other, 0);
+    }
+
+    // entries below BUCKETS only add other[j] into the bucket of their value, one multiplication per bucket at the end
+    @Override
+    public Scalar dot(ScalarVector other, int offset) {
+        if (promoted != null) {
+            return promoted.dot(other, offset);
+        }
+        if (offset < 0 || offset + other.size() > size) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        ScalarAccumulator[] buckets = new ScalarAccumulator[BUCKETS];
+        ScalarAccumulator res = scalarFactory.accumulator();
+        ScalarAccumulator tmp = scalarFactory.accumulator();
+        for (int j = 0; j < other.size(); j++) {
+            long v = values[offset + j];
+            if (v == 0) {
+                continue;
+            }
+            if (v < BUCKETS) {
+                int b = (int)v;
+                if (buckets[b] == null) {
+                    buckets[b] = scalarFactory.accumulator();
+                }
+                buckets[b].addAssign(other, j);
+            } else {
+                res.addAssign(tmp.set(this, offset + j).mulAssign(other, j));
+            }
+        }
+
+        if (buckets[1] != null) {
+            res.addAssign(buckets[1]);
+        }
+        for (int b = 2; b < BUCKETS; b++) {
+            if (buckets[b] != null) {
+                res.addAssign(buckets[b].mulAssign(scalarFactory.scalar((long)b)));
+            }
+        }
+        return res.get();
+    }
+
+    @Override
+    public List<Scalar> toList() {
+        return new ListView();
+    }
+
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException(idx);
+        }
+    }
+
+    private class ListView extends AbstractList<Scalar> implements RandomAccess {
+
+        @Override
+        public Scalar get(int index) {
+            return SmallScalarVector.this.get(index);
+        }
+
+        @Override
+        public Scalar set(int index, Scalar element) {
+            Scalar prev = SmallScalarVector.this.get(index);
+            SmallScalarVector.this.set(index, element);
+            return prev;
+        }
+
+        @Override
+        public int size() {
+            return SmallScalarVector.this.size();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.weavechain.curves;
+
+import java.util.List;
+
+// Sumcheck round sums over i in [from, to) for the combiners used by the provers, len is half the table size.
+// The bound point at x is z[i] + x * (z[len + i] - z[i]); results are the sums at x = 0, 2 (and 3 for cubics).
+public class SumcheckKernels {
+
+    private static final int N = 4;
+
+    // A * B
+    public static List<Scalar> product2(ScalarVector A, ScalarVector B, int len, int from, int to, ScalarFactory scalarFactory) {
+        if (A instanceof FrScalarVector && B instanceof FrScalarVector) {
+            return product2(((FrScalarVector)A).limbs(), ((FrScalarVector)B).limbs(), len, from, to);
+        }
+
+        ScalarAccumulator eval0 = scalarFactory.accumulator();
+        ScalarAccumulator eval2 = scalarFactory.accumulator();
+        for (int i = from; i < to; i++) {
+            Scalar a = A.get(i);
+            Scalar b = B.get(i);
+            eval0.fma(a, b);
+
+            Scalar a2 = A.get(len + i).add(A.get(len + i)).subtract(a);
+            Scalar b2 = B.get(len + i).add(B.get(len + i)).subtract(b);
+            eval2.fma(a2, b2);
+        }
+        return List.of(eval0.get(), eval2.get());
+    }
+
+    // A * B * C
+    public static List<Scalar> product3(ScalarVector A, ScalarVector B, ScalarVector C, int len, int from, int to, ScalarFactory scalarFactory) {
+        if (A instanceof FrScalarVector && B instanceof FrScalarVector && C instanceof FrScalarVector) {
+            return product3(((FrScalarVector)A).limbs(), ((FrScalarVector)B).limbs(), ((FrScalarVector)C).limbs(), len, from, to);
+        }
+
+        ScalarAccumulator eval0 = scalarFactory.accumulator();
+        ScalarAccumulator eval2 = scalarFactory.accumulator();
+        ScalarAccumulator eval3 = scalarFactory.accumulator();
+        for (int i = from; i < to; i++) {
+            Scalar a = A.get(i);
+            Scalar b = B.get(i);
+            Scalar c = C.get(i);
+            eval0.fma(a.multiply(b), c);
+
+            Scalar da = A.get(len + i).subtract(a);
+            Scalar db = B.get(len + i).subtract(b);
+            Scalar dc = C.get(len + i).subtract(c);
+            Scalar a2 = A.get(len + i).add(da);
+            Scalar b2 = B.get(len + i).add(db);
+            Scalar c2 = C.get(len + i).add(dc);
+            eval2.fma(a2.multiply(b2), c2);
+            eval3.fma(a2.add(da).multiply(b2.add(db)), c2.add(dc));
+        }
+        return List.of(eval0.get(), eval2.get(), eval3.get());
+    }
+
+    // A * (B * C - D)
+    public static List<Scalar> cubicAdditive(ScalarVector A, ScalarVector B, ScalarVector C, ScalarVector D, int len, int from, int to, ScalarFactory scalarFactory) {
+        if (A instanceof FrScalarVector && B instanceof FrScalarVector && C instanceof FrScalarVector && D instanceof FrScalarVector) {
+            return cubicAdditive(((FrScalarVector)A).limbs(), ((FrScalarVector)B).limbs(), ((FrScalarVector)C).limbs(), ((FrScalarVector)D).limbs(), len, from, to);
+        }
+
+        ScalarAccumulator eval0 = scalarFactory.accumulator();
+        ScalarAccumulator eval2 = scalarFactory.accumulator();
+        ScalarAccumulator eval3 = scalarFactory.accumulator();
+        for (int i = from; i < to; i++) {
+            Scalar a = A.get(i);
+            Scalar b = B.get(i);
+            Scalar c = C.get(i);
+            Scalar d = D.get(i);
+            eval0.fma(a, b.multiply(c).subtract(d));
+
+            Scalar da = A.get(len + i).subtract(a);
+            Scalar db = B.get(len + i).subtract(b);
+            Scalar dc = C.get(len + i).subtract(c);
+            Scalar dd = D.get(len + i).subtract(d);
+            Scalar a2 = A.get(len + i).add(da);
+            Scalar b2 = B.get(len + i).add(db);
+            Scalar c2 = C.get(len + i).add(dc);
+            Scalar d2 = D.get(len + i).add(dd);
+            eval2.fma(a2, b2.multiply(c2).subtract(d2));
+            eval3.fma(a2.add(da), b2.add(db).multiply(c2.add(dc)).subtract(d2.add(dd)));
+        }
+        return List.of(eval0.get(), eval2.get(), eval3.get());
+    }
+
+    private static List<Scalar> product2(long[] A, long[] B, int len, int from, int to) {
+        long[] eval0 = new long[N];
+        long[] eval2 = new long[N];
+        long[] a2 = new long[N];
+        long[] b2 = new long[N];
+        long[] t = new long[N];
+
+        for (int i = from; i < to; i++) {
+            int lo = i * N;
+            int hi = (len + i) * N;
+
+            FrScalar.mul(A, lo, B, lo, t, 0);
+            FrScalar.add(eval0, 0, t, 0, eval0, 0);
+
+            point2(A, lo, hi, a2);
+            point2(B, lo, hi, b2);
+            FrScalar.mul(a2, 0, b2, 0, t, 0);
+            FrScalar.add(eval2, 0, t, 0, eval2, 0);
+        }
+        return List.of(scalar(eval0), scalar(eval2));
+    }
+
+    private static List<Scalar> product3(long[] A, long[] B, long[] C, int len, int from, int to) {
+        long[] eval0 = new long[N];
+        long[] eval2 = new long[N];
+        long[] eval3 = new long[N];
+        long[] a = new long[N];
+        long[] b = new long[N];
+        long[] c = new long[N];
+        long[] t = new long[N];
+
+        for (int i = from; i < to; i++) {
+            int lo = i * N;
+            int hi = (len + i) * N;
+
+            FrScalar.mul(A, lo, B, lo, t, 0);
+            FrScalar.mul(t, 0, C, lo, t, 0);
+            FrScalar.add(eval0, 0, t, 0, eval0, 0);
+
+            point2(A, lo, hi, a);
+            point2(B, lo, hi, b);
+            point2(C, lo, hi, c);
+            FrScalar.mul(a, 0, b, 0, t, 0);
+            FrScalar.mul(t, 0, c, 0, t, 0);
+            FrScalar.add(eval2, 0, t, 0, eval2, 0);
+
+            step(A, lo, hi, a);
+            step(B, lo, hi, b);
+            step(C, lo, hi, c);
+            FrScalar.mul(a, 0, b, 0, t, 0);
+            FrScalar.mul(t, 0, c, 0, t, 0);
+            FrScalar.add(eval3, 0, t, 0, eval3, 0);
+        }
+        return List.of(scalar(eval0), scalar(eval2), scalar(eval3));
+    }
+
+    private static List<Scalar> cubicAdditive(long[] A, long[] B, long[] C, long[] D, int len, int from, int to) {
+        long[] eval0 = new long[N];
+        long[] eval2 = new long[N];
+        long[] eval3 = new long[N];
+        long[] a = new long[N];
+        long[] b = new long[N];
+        long[] c = new long[N];
+        long[] d = new long[N];
+        long[] t = new long[N];
+
+        for (int i = from; i < to; i++) {
+            int lo = i * N;
+            int hi = (len + i) * N;
+
+            FrScalar.mul(B, lo, C, lo, t, 0);
+            FrScalar.sub(t, 0, D, lo, t, 0);
+            FrScalar.mul(A, lo, t, 0, t, 0);
+            FrScalar.add(eval0, 0, t, 0, eval0, 0);
+
+            point2(A, lo, hi, a);
+            point2(B, lo, hi, b);
+            point2(C, lo, hi, c);
+            point2(D, lo, hi, d);
+            FrScalar.mul(b, 0, c, 0, t, 0);
+            FrScalar.sub(t, 0, d, 0, t, 0);
+            FrScalar.mul(a, 0, t, 0, t, 0);
+            FrScalar.add(eval2, 0, t, 0, eval2, 0);
+
+            step(A, lo, hi, a);
+            step(B, lo, hi, b);
+            step(C, lo, hi, c);
+            step(D, lo, hi, d);
+            FrScalar.mul(b, 0, c, 0, t, 0);
+            FrScalar.sub(t, 0, d, 0, t, 0);
+            FrScalar.mul(a, 0, t, 0, t, 0);
+            FrScalar.add(eval3, 0, t, 0, eval3, 0);
+        }
+        return List.of(scalar(eval0), scalar(eval2), scalar(eval3));
+    }
+
+    // out = 2 * z[hi] - z[lo]
+    private static void point2(long[] z, int lo, int hi, long[] out) {
+        FrScalar.add(z, hi, z, hi, out, 0);
+        FrScalar.sub(out, 0, z, lo, out, 0);
+    }
+
+    // out += z[hi] - z[lo]
+    private static void step(long[] z, int lo, int hi, long[] out) {
+        FrScalar.add(out, 0, z, hi, out, 0);
+        FrScalar.sub(out, 0, z, lo, out, 0);
+    }
+
+    private static Scalar scalar(long[] values) {
+        return new FrScalar(new BigInt(values));
+    }
+}
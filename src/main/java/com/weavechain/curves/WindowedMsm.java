@@ -0,0 +1,108 @@
+package com.weavechain.curves;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+// Curve independent Straus and Pippenger multiscalar multiplication, shift doubles a point bits times
+class WindowedMsm {
+
+    static Point mul(List<Scalar> scalars, List<Point> bases, Point identity, BiFunction<Point, Integer, Point> shift) {
+        if (scalars.size() >= 30) {
+            return mulPippenger(scalars, bases, identity, shift);
+        } else if (scalars.size() > 3) {
+            return mulStraus(scalars, bases, identity, shift);
+        } else {
+            Point result = null;
+            for (int i = 0; i < scalars.size(); i++) {
+                Point p =  bases.get(i).multiply(scalars.get(i));
+                result = result != null ?  result.add(p) : p;
+            }
+            return result;
+        }
+    }
+
+    static Point mulStraus(List<Scalar> scalars, List<Point> points, Point identity, BiFunction<Point, Integer, Point> shift) {
+        List<Point[]> lookupTables = new ArrayList<>();
+        for (Point point : points) {
+            lookupTables.add(createLookupTable(point, identity));
+        }
+
+        List<byte[]> scalarRadix = new ArrayList<>();
+        for (Scalar scalar : scalars) {
+            scalarRadix.add(ScalarRadix.toRadix16(scalar));
+        }
+
+        Point Q = identity;
+
+        for (int i = 63; i >= 0; i--) {
+            Q = shift.apply(Q, 4);
+
+            for (int j = 0; j < points.size(); j++) {
+                byte digit = scalarRadix.get(j)[i];
+                if (digit != 0) {
+                    Point term = lookupTables.get(j)[Math.abs(digit)];
+                    Q = digit > 0 ? Q.add(term) : Q.subtract(term);
+                }
+            }
+        }
+
+        return Q;
+    }
+
+    static Point mulPippenger(List<Scalar> scalars, List<Point> points, Point identity, BiFunction<Point, Integer, Point> shift) {
+        int c = points.size() < 500 ? 6 : points.size() < 800 ? 7 : 8;
+
+        List<byte[]> scalarRadix = new ArrayList<>();
+        for (Scalar scalar : scalars) {
+            scalarRadix.add(ScalarRadix.toRadix2w(scalar, c));
+        }
+
+        int bucketsCount = 1 << (c - 1);
+        int digits = (255 + c - 1) / c;
+
+        Point Q = null;
+
+        for (int k = digits - 1; k >= 0; k--) {
+            Point[] buckets = new Point[bucketsCount];
+            for (int i = 0; i < bucketsCount; i++) {
+                buckets[i] = identity;
+            }
+
+            for (int i = 0; i < points.size(); i++) {
+                byte d = scalarRadix.get(i)[k];
+                if (d != 0) {
+                    int idx = Math.abs(d) - 1;
+                    buckets[idx] = d > 0
+                            ? buckets[idx].add(points.get(i))
+                            : buckets[idx].subtract(points.get(i));
+                }
+            }
+
+            Point sum = buckets[bucketsCount - 1];
+            Point bsum = buckets[bucketsCount - 1];
+            for (int i = bucketsCount - 2; i >= 0; i--) {
+                sum = sum.add(buckets[i]);
+                bsum = bsum.add(sum);
+            }
+
+            if (Q == null) {
+                Q = bsum;
+            } else {
+                Q = shift.apply(Q, c).add(bsum);
+            }
+        }
+
+        return Q;
+    }
+
+    private static Point[] createLookupTable(Point point, Point identity) {
+        Point[] table = new Point[9];
+        table[0] = identity;
+        table[1] = point;
+        for (int i = 2; i <= 8; i++) {
+            table[i] = table[i - 1].add(point);
+        }
+        return table;
+    }
+}
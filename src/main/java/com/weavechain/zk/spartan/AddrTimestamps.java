@@ -1,7 +1,7 @@
 package com.weavechain.zk.spartan;
 
-import com.weavechain.curves.Scalar;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -21,19 +21,19 @@ public class AddrTimestamps {
 
     private final DensePolynomial auditTs;
 
-    public List<DensePolynomial> deref(List<Scalar> memVal) {
+    public List<DensePolynomial> deref(ScalarVector memVal, ScalarFactory scalarFactory) {
         List<DensePolynomial> result = new ArrayList<>();
         for (int i = 0; i < opsAddr.size(); i++) {
-            result.add(derefMem(opsAddrLong.get(i), memVal));
+            result.add(derefMem(opsAddrLong.get(i), memVal, scalarFactory));
         }
 
         return result;
     }
 
-    public DensePolynomial derefMem(List<Long> addr, List<Scalar> memVal) {
-        List<Scalar> result = new ArrayList<>();
-        for (Long a : addr) {
-            result.add(memVal.get(a.intValue()));
+    public DensePolynomial derefMem(List<Long> addr, ScalarVector memVal, ScalarFactory scalarFactory) {
+        ScalarVector result = scalarFactory.vector(addr.size());
+        for (int i = 0; i < addr.size(); i++) {
+            result.set(i, memVal, addr.get(i).intValue());
         }
         return DensePolynomial.create(result);
     }
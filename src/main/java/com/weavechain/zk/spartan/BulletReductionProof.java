@@ -46,6 +46,9 @@ public class BulletReductionProof {
             throw new IllegalArgumentException("Invalid sizes");
         }
 
+        // fold a copy, G belongs to the shared commitment gens
+        G = new ArrayList<>(G);
+
         List<Point> lVec = new CopyOnWriteArrayList<>();
         List<Point> rVec = new CopyOnWriteArrayList<>();
 
@@ -133,18 +136,23 @@ public class BulletReductionProof {
             throw new IllegalArgumentException("Invalid sizes");
         }
 
-        List<Scalar> challengesSq = new ArrayList<>();
-        List<Scalar> challengesInvSq = new ArrayList<>();
-        Scalar allInv = ONE;
+        List<Scalar> challenges = new ArrayList<>();
         for (int i = 0; i < lVec.size(); i++) {
             transcript.appendPoint("L".getBytes(StandardCharsets.UTF_8), lVec.get(i));
             transcript.appendPoint("R".getBytes(StandardCharsets.UTF_8), rVec.get(i));
 
-            Scalar c = transcript.challengeScalar("u".getBytes(StandardCharsets.UTF_8));
-            Scalar cinv = c.invert();
+            challenges.add(transcript.challengeScalar("u".getBytes(StandardCharsets.UTF_8)));
+        }
+        List<Scalar> challengesInv = scalarFactory.batchInvert(challenges);
+
+        List<Scalar> challengesSq = new ArrayList<>();
+        List<Scalar> challengesInvSq = new ArrayList<>();
+        Scalar allInv = ONE;
+        for (int i = 0; i < challenges.size(); i++) {
+            Scalar cinv = challengesInv.get(i);
             allInv = allInv.multiply(cinv);
 
-            challengesSq.add(c.square());
+            challengesSq.add(challenges.get(i).square());
             challengesInvSq.add(cinv.square());
         }
 
@@ -0,0 +1,287 @@
+package com.weavechain.zk.spartan;
+
+import com.weavechain.curves.Scalar;
+import com.weavechain.curves.ScalarAccumulator;
+import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
+import com.weavechain.zk.spartan.util.Parallel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// CSR and CSC index of a sparse matrix, entries keep their insertion order within a row (column).
+// Values are stored once in CSR order, the CSC side points into them, entrySlot maps insertion order to CSR slots.
+@Getter
+@AllArgsConstructor
+public class CompressedSparseMatrix {
+
+    private final int numRows;
+
+    private final int numCols;
+
+    private final int[] rowPtr;
+
+    private final int[] colIdx;
+
+    private final ScalarVector rowVals;
+
+    private final int[] colPtr;
+
+    private final int[] rowIdx;
+
+    private final int[] colValIdx;
+
+    private final int[] entrySlot;
+
+    public static CompressedSparseMatrix create(List<SparseMatEntry> M, int numRows, int numCols, ScalarFactory scalarFactory) {
+        int[] rows = new int[M.size()];
+        int[] cols = new int[M.size()];
+        for (int i = 0; i < M.size(); i++) {
+            SparseMatEntry m = M.get(i);
+            if (m.getRow() < 0 || m.getRow() >= numRows || m.getCol() < 0 || m.getCol() >= numCols) {
+                throw new IllegalArgumentException("Invalid sizes");
+            }
+            rows[i] = (int)m.getRow();
+            cols[i] = (int)m.getCol();
+        }
+
+        int[] rowPtr = new int[numRows + 1];
+        int[] colIdx = new int[M.size()];
+        ScalarVector rowVals = scalarFactory.vector(M.size());
+        int[] rowOrder = countingSort(rows, numRows, rowPtr);
+
+        int[] colPtr = new int[numCols + 1];
+        int[] rowIdx = new int[M.size()];
+        int[] colValIdx = new int[M.size()];
+        int[] colOrder = countingSort(cols, numCols, colPtr);
+
+        int[] entrySlot = new int[M.size()];
+        for (int k = 0; k < M.size(); k++) {
+            SparseMatEntry r = M.get(rowOrder[k]);
+            colIdx[k] = (int)r.getCol();
+            rowVals.set(k, r.getVal());
+            entrySlot[rowOrder[k]] = k;
+        }
+        for (int k = 0; k < M.size(); k++) {
+            rowIdx[k] = rows[colOrder[k]];
+            colValIdx[k] = entrySlot[colOrder[k]];
+        }
+
+        return new CompressedSparseMatrix(numRows, numCols, rowPtr, colIdx, rowVals, colPtr, rowIdx, colValIdx, entrySlot);
+    }
+
+    // stable order of the entries by key, ptr receives the bucket offsets
+    private static int[] countingSort(int[] keys, int numKeys, int[] ptr) {
+        for (int key : keys) {
+            ptr[key + 1]++;
+        }
+        for (int i = 0; i < numKeys; i++) {
+            ptr[i + 1] += ptr[i];
+        }
+
+        int[] next = ptr.clone();
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[next[keys[i]]++] = i;
+        }
+        return order;
+    }
+
+    public int getNumEntries() {
+        return colIdx.length;
+    }
+
+    // entry idx in insertion order
+    public SparseMatEntry getEntry(int idx) {
+        int k = entrySlot[idx];
+        return new SparseMatEntry(rowOf(k), colIdx[k], rowVals.get(k));
+    }
+
+    // all entries in insertion order
+    public List<SparseMatEntry> toEntries() {
+        List<SparseMatEntry> res = new ArrayList<>();
+        for (int i = 0; i < getNumEntries(); i++) {
+            res.add(getEntry(i));
+        }
+        return res;
+    }
+
+    // the last row starting at or before slot k is the non-empty row holding it
+    private int rowOf(int k) {
+        int lo = 0;
+        int hi = numRows - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (rowPtr[mid] <= k) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    // M * z over the first rows, one accumulator per row
+    public ScalarVector multiplyVec(int rows, ScalarVector z, ScalarFactory scalarFactory) {
+        ScalarVector result = scalarFactory.vector(rows);
+        Parallel.forChunks(rows, averageRowWork(), (from, to) -> {
+            ScalarAccumulator acc = scalarFactory.accumulator();
+            ScalarAccumulator tmp = scalarFactory.accumulator();
+            for (int r = from; r < to; r++) {
+                acc.set(scalarFactory.zero());
+                for (int k = rowPtr[r]; k < rowPtr[r + 1]; k++) {
+                    acc.addAssign(tmp.set(rowVals, k).mulAssign(z, colIdx[k]));
+                }
+                result.set(r, acc.get());
+            }
+        });
+        return result;
+    }
+
+    // M_i * z for several matrices of the same shape in one pass over the rows
+    public static List<ScalarVector> multiplyVecs(List<CompressedSparseMatrix> mats, int rows, ScalarVector z, ScalarFactory scalarFactory) {
+        List<ScalarVector> results = new ArrayList<>();
+        long work = 1;
+        for (CompressedSparseMatrix m : mats) {
+            if (m.getNumRows() < rows) {
+                throw new IllegalArgumentException("Invalid sizes");
+            }
+            results.add(scalarFactory.vector(rows));
+            work += m.averageRowWork();
+        }
+
+        Parallel.forChunks(rows, work, (from, to) -> {
+            ScalarAccumulator acc = scalarFactory.accumulator();
+            ScalarAccumulator tmp = scalarFactory.accumulator();
+            for (int r = from; r < to; r++) {
+                for (int i = 0; i < mats.size(); i++) {
+                    CompressedSparseMatrix m = mats.get(i);
+                    acc.set(scalarFactory.zero());
+                    for (int k = m.rowPtr[r]; k < m.rowPtr[r + 1]; k++) {
+                        acc.addAssign(tmp.set(m.rowVals, k).mulAssign(z, m.colIdx[k]));
+                    }
+                    results.get(i).set(r, acc.get());
+                }
+            }
+        });
+        return results;
+    }
+
+    // x^T * M over the first cols, one accumulator per column
+    public ScalarVector multiplyVecTransposed(int cols, ScalarVector x, ScalarFactory scalarFactory) {
+        return multiplyVecsTransposed(List.of(this), cols, x, scalarFactory).get(0);
+    }
+
+    // x^T * M_i for several matrices in one pass over the columns
+    public static List<ScalarVector> multiplyVecsTransposed(List<CompressedSparseMatrix> mats, int cols, ScalarVector x, ScalarFactory scalarFactory) {
+        List<ScalarVector> results = new ArrayList<>();
+        for (int i = 0; i < mats.size(); i++) {
+            results.add(scalarFactory.vector(cols));
+        }
+
+        Parallel.forChunks(cols, averageColWork(mats, cols), (from, to) -> {
+            ScalarAccumulator acc = scalarFactory.accumulator();
+            ScalarAccumulator tmp = scalarFactory.accumulator();
+            for (int c = from; c < to; c++) {
+                for (int i = 0; i < mats.size(); i++) {
+                    results.get(i).set(c, mats.get(i).column(c, x, acc, tmp, scalarFactory).get());
+                }
+            }
+        });
+        return results;
+    }
+
+    // sum_i w_i * x^T * M_i without materializing the per-matrix tables
+    public static ScalarVector multiplyVecsTransposed(List<CompressedSparseMatrix> mats, List<Scalar> weights, int cols, ScalarVector x, ScalarFactory scalarFactory) {
+        if (weights.size() != mats.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        ScalarVector result = scalarFactory.vector(cols);
+        Parallel.forChunks(cols, averageColWork(mats, cols), (from, to) -> {
+            ScalarAccumulator res = scalarFactory.accumulator();
+            ScalarAccumulator acc = scalarFactory.accumulator();
+            ScalarAccumulator tmp = scalarFactory.accumulator();
+            for (int c = from; c < to; c++) {
+                res.set(scalarFactory.zero());
+                for (int i = 0; i < mats.size(); i++) {
+                    res.addAssign(mats.get(i).column(c, x, acc, tmp, scalarFactory).mulAssign(weights.get(i)));
+                }
+                result.set(c, res.get());
+            }
+        });
+        return result;
+    }
+
+    private ScalarAccumulator column(int c, ScalarVector x, ScalarAccumulator acc, ScalarAccumulator tmp, ScalarFactory scalarFactory) {
+        acc.set(scalarFactory.zero());
+        if (c >= numCols) {
+            return acc;
+        }
+        for (int k = colPtr[c]; k < colPtr[c + 1]; k++) {
+            acc.addAssign(tmp.set(rowVals, colValIdx[k]).mulAssign(x, rowIdx[k]));
+        }
+        return acc;
+    }
+
+    private static long averageColWork(List<CompressedSparseMatrix> mats, int cols) {
+        long entries = 0;
+        for (CompressedSparseMatrix m : mats) {
+            entries += m.getNumEntries();
+        }
+        return Math.max(1, entries / Math.max(1, cols));
+    }
+
+    // x^T * M * y
+    public Scalar evaluate(ScalarVector x, ScalarVector y, ScalarFactory scalarFactory) {
+        return evaluate(List.of(this), x, y, scalarFactory).get(0);
+    }
+
+    // x^T * M_i * y for several matrices in one pass over the rows, partial sums are reduced in chunk order
+    public static List<Scalar> evaluate(List<CompressedSparseMatrix> mats, ScalarVector x, ScalarVector y, ScalarFactory scalarFactory) {
+        int rows = 0;
+        long work = 1;
+        for (CompressedSparseMatrix m : mats) {
+            rows = Math.max(rows, m.getNumRows());
+            work += m.averageRowWork();
+        }
+        int numRows = rows;
+
+        List<ScalarAccumulator[]> partials = Parallel.mapChunks(numRows, work, (from, to) -> {
+            ScalarAccumulator[] res = new ScalarAccumulator[mats.size()];
+            ScalarAccumulator row = scalarFactory.accumulator();
+            ScalarAccumulator tmp = scalarFactory.accumulator();
+            for (int i = 0; i < mats.size(); i++) {
+                CompressedSparseMatrix m = mats.get(i);
+                res[i] = scalarFactory.accumulator();
+                for (int r = from; r < Math.min(to, m.getNumRows()); r++) {
+                    if (m.rowPtr[r] == m.rowPtr[r + 1]) {
+                        continue;
+                    }
+                    row.set(scalarFactory.zero());
+                    for (int k = m.rowPtr[r]; k < m.rowPtr[r + 1]; k++) {
+                        row.addAssign(tmp.set(m.rowVals, k).mulAssign(y, m.colIdx[k]));
+                    }
+                    res[i].addAssign(row.mulAssign(x, r));
+                }
+            }
+            return res;
+        });
+
+        List<Scalar> result = new ArrayList<>();
+        for (int i = 0; i < mats.size(); i++) {
+            ScalarAccumulator acc = partials.get(0)[i];
+            for (int c = 1; c < partials.size(); c++) {
+                acc.addAssign(partials.get(c)[i]);
+            }
+            result.add(acc.get());
+        }
+        return result;
+    }
+
+    private long averageRowWork() {
+        return Math.max(1, getNumEntries() / Math.max(1, numRows));
+    }
+}
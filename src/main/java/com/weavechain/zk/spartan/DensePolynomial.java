@@ -3,11 +3,15 @@ package com.weavechain.zk.spartan;
 import com.weavechain.curves.Point;
 import com.weavechain.curves.PointFactory;
 import com.weavechain.curves.Scalar;
+import com.weavechain.curves.ScalarAccumulator;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
+import com.weavechain.curves.SmallScalarVector;
 import com.weavechain.zk.spartan.commit.Commitments;
 import com.weavechain.zk.spartan.commit.PolyCommitment;
 import com.weavechain.zk.spartan.generators.MultiCommitGens;
 import com.weavechain.zk.spartan.generators.PolyCommitmentGens;
+import com.weavechain.zk.spartan.util.Parallel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -24,7 +28,7 @@ public class DensePolynomial {
 
     private long len;
 
-    private List<Scalar> Z;
+    private ScalarVector Z;
 
     public Scalar get(int idx) {
         return Z.get(idx);
@@ -52,60 +56,147 @@ public class DensePolynomial {
         );
     }
 
-    public static DensePolynomial create(List<Scalar> Z) {
+    public static DensePolynomial create(List<Scalar> Z, ScalarFactory scalarFactory) {
+        return create(scalarFactory.vector(Z));
+    }
+
+    public static DensePolynomial create(ScalarVector Z) {
         long numVars = Utils.log2((long)Z.size());
-        return new DensePolynomial(numVars, Z.size(), new ArrayList<>(Z));
+        return new DensePolynomial(numVars, Z.size(), Z);
     }
 
-    public void boundPolyVarTop(Scalar r) {
-        int n = (int)len / 2;
-        for (int i = 0; i < n; i++) {
-            Z.set(i, Z.get(i).add(r.multiply(Z.get(i + n).subtract(Z.get(i)))));
+    // small-integer tables switch to the field representation here, before any parallel mutation
+    public void promote() {
+        if (Z instanceof SmallScalarVector) {
+            Z = ((SmallScalarVector)Z).promote();
         }
+    }
+
+    public void boundPolyVarTop(Scalar r) {
+        promote();
+        int n = Z.size() / 2;
+        Parallel.forChunks(n, (from, to) -> Z.bindTop(r, from, to));
+        Z.resize(n);
+        numVars--;
+        len = n;
+    }
+
+    // binds into a fresh half-size table, so the current one can be released
+    public void boundPolyVarTopCompact(Scalar r) {
+        promote();
+        int n = Z.size() / 2;
+        ScalarVector bound = Z.zeros(n);
+        Parallel.forChunks(n, (from, to) -> Z.bindTopInto(r, bound, from, to));
+        Z = bound;
         numVars--;
         len = n;
-        Z = Z.subList(0, (int)len);
+    }
+
+    // binds the top variable on Z[from, to) only, completeBindTop() then drops the upper half
+    public void bindTopRange(Scalar r, int from, int to) {
+        Z.bindTop(r, from, to);
+    }
+
+    public void completeBindTop() {
+        Z.resize(Z.size() / 2);
+        numVars--;
+        len = Z.size();
     }
 
     public void boundPolyVarBot(Scalar r) {
-        int n = (int)len / 2;
-        for (int i = 0; i < n; i++) {
-            Z.set(i, Z.get(2 * i).add(r.multiply(Z.get(2 * i + 1).subtract(Z.get(2 * i)))));
+        // in-place bottom binding reads across chunk boundaries, large tables go out of place instead
+        if (Parallel.enabled(Z.size() / 2)) {
+            boundPolyVarBotCompact(r);
+            return;
         }
+
+        promote();
+        Z.bindBot(r);
+        numVars--;
+        len = Z.size();
+    }
+
+    public void boundPolyVarBotCompact(Scalar r) {
+        promote();
+        int n = Z.size() / 2;
+        ScalarVector bound = Z.zeros(n);
+        Parallel.forChunks(n, (from, to) -> Z.bindBotInto(r, bound, from, to));
+        Z = bound;
         numVars--;
         len = n;
-        Z = Z.subList(0, (int)len);
     }
 
+    // sum_i L[i] * sum_j R[j] * Z[i * |R| + j] over the two sqrt-size halves of the eq table
     public Scalar evaluate(List<Scalar> r, ScalarFactory scalarFactory) {
+        return evaluate(List.of(this), r, scalarFactory).get(0);
+    }
+
+    // evaluates every polynomial at the same point, the eq tables are built once for the whole batch
+    public static List<Scalar> evaluate(List<DensePolynomial> polys, List<Scalar> r, ScalarFactory scalarFactory) {
+        int lVars = r.size() / 2;
+        ScalarVector L = new EqPolynomial(r.subList(0, lVars)).evals(scalarFactory);
+        ScalarVector R = new EqPolynomial(r.subList(lVars, r.size())).evals(scalarFactory);
+        for (DensePolynomial p : polys) {
+            if (p.numVars != r.size() || (long)L.size() * R.size() != p.Z.size()) {
+                throw new IllegalArgumentException("Invalid sizes");
+            }
+        }
+
+        int lSize = L.size();
+        int rSize = R.size();
+        Scalar[] rows = new Scalar[polys.size() * lSize];
+        Parallel.forEach(rows.length, rSize, t -> rows[t] = polys.get(t / lSize).Z.dot(R, (t % lSize) * rSize));
+
+        List<Scalar> res = new ArrayList<>(polys.size());
+        ScalarAccumulator acc = scalarFactory.accumulator();
+        for (int k = 0; k < polys.size(); k++) {
+            acc.set(scalarFactory.zero());
+            for (int i = 0; i < lSize; i++) {
+                acc.fma(L.get(i), rows[k * lSize + i]);
+            }
+            res.add(acc.get());
+        }
+        return res;
+    }
+
+    // reference evaluation against the full 2^n eq table
+    public Scalar evaluateFull(List<Scalar> r, ScalarFactory scalarFactory) {
         if (r.size() != numVars) {
             throw new IllegalArgumentException("Invalid sizes");
         }
-        List<Scalar> chis = new EqPolynomial(r).evals(scalarFactory);
+        ScalarVector chis = new EqPolynomial(r).evals(scalarFactory);
         if (chis.size() != Z.size()) {
             throw new IllegalArgumentException("Invalid sizes");
         }
-        return DotProductProofLog.computeDotProduct(Z, chis, scalarFactory);
+        return Z.dot(chis);
     }
 
+    // L^T * Z for Z viewed as an lSize x rSize matrix, accumulated row by row over contiguous storage
     public List<Scalar> bound(List<Scalar> L, ScalarFactory scalarFactory) {
         int lSize = 1 << (int)(numVars / 2);
         int rSize = 1 << (int)(numVars - numVars / 2);
+        if (L.size() != lSize) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
 
-        List<Scalar> res = new ArrayList<>();
-        for (int i = 0; i < rSize; i++) {
-            Scalar b = scalarFactory.zero();
-            for (int j = 0; j < lSize; j++) {
-                Scalar val = L.get(j).multiply(Z.get(j * rSize + i));
-                b = b.add(val);
+        List<ScalarVector> partials = Parallel.mapChunks(lSize, rSize, (from, to) -> {
+            ScalarVector acc = scalarFactory.vector(rSize);
+            for (int j = from; j < to; j++) {
+                acc.addScaled(Z, j * rSize, L.get(j));
             }
-            res.add(b);
+            return acc;
+        });
+
+        ScalarVector res = partials.get(0);
+        Scalar ONE = scalarFactory.one();
+        for (int k = 1; k < partials.size(); k++) {
+            res.addScaled(partials.get(k), 0, ONE);
         }
-        return res;
+        return new ArrayList<>(res.toList());
     }
 
     public DensePolynomial half(int idx) {
-        return DensePolynomial.create(idx == 0 ? Z.subList(0, Z.size() / 2) : Z.subList(Z.size() / 2, Z.size()));
+        return DensePolynomial.create(idx == 0 ? Z.slice(0, Z.size() / 2) : Z.slice(Z.size() / 2, Z.size()));
     }
 
     @Override
@@ -113,12 +204,12 @@ public class DensePolynomial {
         return new DensePolynomial(
                 numVars,
                 len,
-                new ArrayList<>(Z)
+                Z.copy()
         );
     }
 
     public void extend(DensePolynomial other) {
-        Z.addAll(other.getZ());
+        Z.append(other.getZ());
         numVars++;
         len *= 2;
     }
@@ -131,8 +222,9 @@ public class DensePolynomial {
         }
 
         List<Point> C = new ArrayList<>();
+        List<Scalar> values = Z.toList();
         for (int i = 0; i < lSize; i++) {
-            List<Scalar> z = Z.subList(rSize * i, rSize * (i + 1));
+            List<Scalar> z = values.subList(rSize * i, rSize * (i + 1));
             Point c = Commitments.batchCommit(z, blinds.get(i), gens, pointFactory);
             C.add(c);
         }
@@ -140,26 +232,19 @@ public class DensePolynomial {
         return new PolyCommitment(C);
     }
 
+    // small non-negative integers stay unboxed until they are mixed into field arithmetic
     public static DensePolynomial fromSize(List<Long> val, ScalarFactory scalarFactory) {
-        List<Scalar> s = new ArrayList<>();
-        for (Long l : val) {
-            s.add(scalarFactory.scalar(l));
-        }
-        return DensePolynomial.create(s);
+        return DensePolynomial.create(SmallScalarVector.fromList(val, scalarFactory));
     }
 
     public static DensePolynomial merge(List<List<DensePolynomial>> polys, ScalarFactory scalarFactory) {
-        List<Scalar> merged = new ArrayList<>();
+        ScalarVector merged = scalarFactory.vector(0);
         for (List<DensePolynomial> it : polys) {
             for (DensePolynomial p : it) {
-                merged.addAll(p.getZ());
+                merged.append(p.getZ());
             }
         }
-
-        int len = (int)Utils.nextPow2(merged.size());
-        for (int i = merged.size(); i < len; i++) {
-            merged.add(scalarFactory.zero());
-        }
+        merged.resize((int)Utils.nextPow2(merged.size()));
 
         return DensePolynomial.create(merged);
     }
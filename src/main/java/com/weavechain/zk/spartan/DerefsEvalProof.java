@@ -40,7 +40,7 @@ public class DerefsEvalProof {
 
         List<Scalar> challenges = transcript.challengeVector("challenge_combine_n_to_one".getBytes(StandardCharsets.UTF_8), Utils.log2((long)evals.size()));
 
-        DensePolynomial polyEvals = DensePolynomial.create(evals);
+        DensePolynomial polyEvals = DensePolynomial.create(evals, transcript.getScalarFactory());
         for (int i = challenges.size() - 1; i >= 0; i--) {
             polyEvals.boundPolyVarBot(challenges.get(i));
         }
@@ -103,7 +103,7 @@ public class DerefsEvalProof {
 
         List<Scalar> challenges = transcript.challengeVector("challenge_combine_n_to_one".getBytes(StandardCharsets.UTF_8), Utils.log2((long)evals.size()));
 
-        DensePolynomial polyEvals = DensePolynomial.create(evals);
+        DensePolynomial polyEvals = DensePolynomial.create(evals, transcript.getScalarFactory());
         for (int i = challenges.size() - 1; i >= 0; i--) {
             polyEvals.boundPolyVarBot(challenges.get(i));
         }
@@ -38,12 +38,7 @@ public class DotProductProof {
             throw new IllegalArgumentException("Invalid size");
         }
 
-        Scalar result = scalarFactory.zero();
-        for (int i = 0; i < a.size(); i++) {
-            Scalar e = a.get(i).multiply(b.get(i));
-            result = result.add(e);
-        }
-        return result;
+        return scalarFactory.accumulator().sumOfProducts(a, b).get();
     }
 
     public static Tuple3<DotProductProof, Point, Point> prove(
@@ -39,12 +39,7 @@ public class DotProductProofLog {
             throw new IllegalArgumentException("Invalid sizes");
         }
 
-        Scalar res = scalarFactory.zero();
-        for (int i = 0; i < a.size(); i++) {
-            Scalar e = a.get(i).multiply(b.get(i));
-            res = res.add(e);
-        }
-        return res;
+        return scalarFactory.accumulator().sumOfProducts(a, b).get();
     }
 
     public static Tuple3<DotProductProofLog, Point, Point> prove(
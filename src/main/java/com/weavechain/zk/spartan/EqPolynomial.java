@@ -2,10 +2,11 @@ package com.weavechain.zk.spartan;
 
 import com.weavechain.curves.Scalar;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
+import com.weavechain.zk.spartan.util.Parallel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -14,24 +15,32 @@ public class EqPolynomial {
 
     public final List<Scalar> r;
 
-    public List<Scalar> evals(ScalarFactory scalarFactory) {
-        List<Scalar> result = new ArrayList<>();
+    public ScalarVector evals(ScalarFactory scalarFactory) {
+        return evals(scalarFactory.vector(1 << r.size()), scalarFactory);
+    }
 
-        for (int i = 0; i < (1 << r.size()); i++) {
-            result.add(scalarFactory.one());
+    // writes the 2^n evaluations into the first entries of out, whose previous contents are ignored
+    public ScalarVector evals(ScalarVector out, ScalarFactory scalarFactory) {
+        if (out.size() < 1 << r.size()) {
+            throw new IllegalArgumentException("Invalid sizes");
         }
+        out.set(0, scalarFactory.one());
 
+        // r[j] ends up on bit n - 1 - j, each pass only touches i and i + size, so chunks never overlap
         int size = 1;
-        for (int j = 0; j < r.size(); j++) {
+        for (int j = r.size() - 1; j >= 0; j--) {
+            Scalar rj = r.get(j);
+            int half = size;
+            Parallel.forChunks(half, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    out.mul(i + half, i, rj);
+                    out.sub(i, i, i + half);
+                }
+            });
             size *= 2;
-            for (int i = size - 1; i >= 0; i -= 2) {
-                Scalar s = result.get(i / 2);
-                result.set(i, s.multiply(r.get(j)));
-                result.set(i - 1, s.subtract(result.get(i)));
-            }
         }
 
-        return result;
+        return out;
     }
 
     public Scalar evaluate(List<Scalar> rx, ScalarFactory scalarFactory) {
@@ -48,8 +57,8 @@ public class EqPolynomial {
         int lSize = r.size() / 2;
 
         return new Pair<>(
-                new EqPolynomial(r.subList(0, lSize)).evals(scalarFactory),
-                new EqPolynomial(r.subList(lSize, r.size())).evals(scalarFactory)
+                new EqPolynomial(r.subList(0, lSize)).evals(scalarFactory).toList(),
+                new EqPolynomial(r.subList(lSize, r.size())).evals(scalarFactory).toList()
         );
     }
 }
@@ -40,31 +40,6 @@ public class HashLayerProof {
 
     private final DerefsEvalProof proofDerefs;
 
-    public static Tuple3<List<Scalar>, List<Scalar>, Scalar> proveHelper(
-            List<Scalar> randMem,
-            List<Scalar> randOps,
-            AddrTimestamps addrTimestamps,
-            ScalarFactory scalarFactory
-    ) {
-        List<Scalar> evalOpsAddrVec = new ArrayList<>();
-        for (DensePolynomial p : addrTimestamps.getOpsAddr()) {
-            evalOpsAddrVec.add(p.evaluate(randOps, scalarFactory));
-        }
-
-        List<Scalar> evalReadTsVec = new ArrayList<>();
-        for (DensePolynomial p : addrTimestamps.getReadTs()) {
-            evalReadTsVec.add(p.evaluate(randOps, scalarFactory));
-        }
-
-        Scalar evalAuditTs = addrTimestamps.getAuditTs().evaluate(randMem, scalarFactory);
-
-        return new Tuple3<>(
-                evalOpsAddrVec,
-                evalReadTsVec,
-                evalAuditTs
-        );
-    }
-
     public static HashLayerProof prove(
             List<Scalar> randMem,
             List<Scalar> randOps,
@@ -78,15 +53,30 @@ public class HashLayerProof {
 
         transcript.appendMessage("protocol-name".getBytes(StandardCharsets.UTF_8), PROTOCOL_NAME.getBytes(StandardCharsets.UTF_8));
 
-        List<Scalar> evalRowOpsVal = new ArrayList<>();
-        for (DensePolynomial p : derefs.getRowOpsVal()) {
-            evalRowOpsVal.add(p.evaluate(randOps, scalarFactory));
+        // all claims at randOps share one pair of eq tables
+        List<List<DensePolynomial>> opsGroups = List.of(
+                derefs.getRowOpsVal(),
+                derefs.getColOpsVal(),
+                dense.getRow().getOpsAddr(),
+                dense.getRow().getReadTs(),
+                dense.getCol().getOpsAddr(),
+                dense.getCol().getReadTs(),
+                dense.getVal()
+        );
+        List<DensePolynomial> opsPolys = new ArrayList<>();
+        opsGroups.forEach(opsPolys::addAll);
+        List<Scalar> opsEvals = DensePolynomial.evaluate(opsPolys, randOps, scalarFactory);
+
+        List<List<Scalar>> opsGroupEvals = new ArrayList<>();
+        int offset = 0;
+        for (List<DensePolynomial> group : opsGroups) {
+            opsGroupEvals.add(new ArrayList<>(opsEvals.subList(offset, offset + group.size())));
+            offset += group.size();
         }
+        List<Scalar> memEvals = DensePolynomial.evaluate(List.of(dense.getRow().getAuditTs(), dense.getCol().getAuditTs()), randMem, scalarFactory);
 
-        List<Scalar> evalColOpsVal = new ArrayList<>();
-        for (DensePolynomial p : derefs.getColOpsVal()) {
-            evalColOpsVal.add(p.evaluate(randOps, scalarFactory));
-        }
+        List<Scalar> evalRowOpsVal = opsGroupEvals.get(0);
+        List<Scalar> evalColOpsVal = opsGroupEvals.get(1);
 
         DerefsEvalProof proofDerefs = DerefsEvalProof.prove(
                 derefs,
@@ -98,14 +88,11 @@ public class HashLayerProof {
                 randomTape
         );
 
-        Tuple3<List<Scalar>, List<Scalar>, Scalar> evalRow = proveHelper(randMem, randOps, dense.getRow(), scalarFactory);
+        Tuple3<List<Scalar>, List<Scalar>, Scalar> evalRow = new Tuple3<>(opsGroupEvals.get(2), opsGroupEvals.get(3), memEvals.get(0));
         Scalar evalRowAuditTs = evalRow.getValue3();
-        Tuple3<List<Scalar>, List<Scalar>, Scalar> evalCol = proveHelper(randMem, randOps, dense.getCol(), scalarFactory);
+        Tuple3<List<Scalar>, List<Scalar>, Scalar> evalCol = new Tuple3<>(opsGroupEvals.get(4), opsGroupEvals.get(5), memEvals.get(1));
         Scalar evalColAuditTs = evalCol.getValue3();
-        List<Scalar> evalValVec = new ArrayList<>();
-        for (DensePolynomial p : dense.getVal()) {
-            evalValVec.add(p.evaluate(randOps, scalarFactory));
-        }
+        List<Scalar> evalValVec = opsGroupEvals.get(6);
 
         List<Scalar> evalOps = new ArrayList<>();
         evalOps.addAll(evalRow.getValue1());
@@ -121,7 +108,7 @@ public class HashLayerProof {
 
         List<Scalar> challengesOps = transcript.challengeVector("challenge_combine_n_to_one".getBytes(StandardCharsets.UTF_8), Utils.log2((long)evalOps.size()));
 
-        DensePolynomial polyEvalsOps = DensePolynomial.create(evalOps);
+        DensePolynomial polyEvalsOps = DensePolynomial.create(evalOps, scalarFactory);
         for (int i = challengesOps.size() - 1; i >= 0; i--) {
             polyEvalsOps.boundPolyVarBot(challengesOps.get(i));
         }
@@ -150,7 +137,7 @@ public class HashLayerProof {
 
         List<Scalar> challengesMem = transcript.challengeVector("challenge_combine_two_to_one".getBytes(StandardCharsets.UTF_8), Utils.log2((long)evalsMem.size()));
 
-        DensePolynomial polyEvalsMem = DensePolynomial.create(evalsMem);
+        DensePolynomial polyEvalsMem = DensePolynomial.create(evalsMem, scalarFactory);
         for (int i = challengesMem.size() - 1; i >= 0; i--) {
             polyEvalsMem.boundPolyVarBot(challengesMem.get(i));
         }
@@ -313,7 +300,7 @@ public class HashLayerProof {
 
         List<Scalar> challengesOps = transcript.challengeVector("challenge_combine_n_to_one".getBytes(StandardCharsets.UTF_8), Utils.log2((long)evalsOps.size()));
 
-        DensePolynomial polyEvalsOps = DensePolynomial.create(evalsOps);
+        DensePolynomial polyEvalsOps = DensePolynomial.create(evalsOps, scalarFactory);
         for (int i = challengesOps.size() - 1; i >= 0; i--) {
             polyEvalsOps.boundPolyVarBot(challengesOps.get(i));
         }
@@ -339,7 +326,7 @@ public class HashLayerProof {
 
         List<Scalar> challengesMem = transcript.challengeVector("challenge_combine_two_to_one".getBytes(StandardCharsets.UTF_8), Utils.log2((long)evalsMem.size()));
 
-        DensePolynomial polyEvalsMem = DensePolynomial.create(evalsMem);
+        DensePolynomial polyEvalsMem = DensePolynomial.create(evalsMem, scalarFactory);
         for (int i = challengesMem.size() - 1; i >= 0; i--) {
             polyEvalsMem.boundPolyVarBot(challengesMem.get(i));
         }
@@ -2,12 +2,15 @@ package com.weavechain.zk.spartan;
 
 import com.weavechain.curves.Scalar;
 import com.weavechain.curves.ScalarFactory;
-import com.weavechain.zk.spartan.util.Function3;
+import com.weavechain.curves.ScalarVector;
+import com.weavechain.curves.SmallScalarVector;
 import com.weavechain.zk.spartan.util.Tuple4;
+import com.weavechain.zk.spartan.util.Parallel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Getter
@@ -39,17 +42,22 @@ public class Layers {
         List<DensePolynomial> polyWriteHashed = h.getValue3();
         DensePolynomial polyAuditHashed = h.getValue4();
 
-        ProductCircuit prodInit = ProductCircuit.create(polyInitHashed);
-        List<ProductCircuit> prodReadVec = new ArrayList<>();
-        for (DensePolynomial p : polyReadHashed) {
-            prodReadVec.add(ProductCircuit.create(p));
-        }
-        List<ProductCircuit> prodWriteVec = new ArrayList<>();
-        for (DensePolynomial p : polyWriteHashed) {
-            prodWriteVec.add(ProductCircuit.create(p));
-        }
+        // the circuits are independent, each one also splits its own layers
+        List<DensePolynomial> hashed = new ArrayList<>();
+        hashed.add(polyInitHashed);
+        hashed.addAll(polyReadHashed);
+        hashed.addAll(polyWriteHashed);
+        hashed.add(polyAuditHashed);
+
+        ProductCircuit[] circuits = new ProductCircuit[hashed.size()];
+        long work = hashed.stream().mapToLong(DensePolynomial::getLen).max().orElse(0);
+        Parallel.forEach(circuits.length, work, i -> circuits[i] = ProductCircuit.create(hashed.get(i)));
 
-        ProductCircuit prodAudit = ProductCircuit.create(polyAuditHashed);
+        int numReads = polyReadHashed.size();
+        ProductCircuit prodInit = circuits[0];
+        List<ProductCircuit> prodReadVec = new ArrayList<>(Arrays.asList(circuits).subList(1, 1 + numReads));
+        List<ProductCircuit> prodWriteVec = new ArrayList<>(Arrays.asList(circuits).subList(1 + numReads, circuits.length - 1));
+        ProductCircuit prodAudit = circuits[circuits.length - 1];
 
         if (DEBUG_EVAL) {
             Scalar hashedReads = scalarFactory.one();
@@ -91,46 +99,42 @@ public class Layers {
         Scalar rHashSq = rHash.square();
         Scalar rMultisetCheck = rMemCheck.getValue2();
 
-        Function3<Scalar, Scalar, Scalar, Scalar> hashFn = (addr, val, ts) -> ts.multiply(rHashSq).add(val.multiply(rHash)).add(addr);
-
         long numMemCells = evalTable.size();
 
         List<Scalar> polyInit = new ArrayList<>();
         for (int i = 0; i < numMemCells; i++) {
-            Scalar r = hashFn.apply(scalarFactory.scalar((long)i), evalTable.get(i), scalarFactory.zero()).subtract(rMultisetCheck);
+            Scalar r = evalTable.get(i).multiply(rHash).add(scalarFactory.scalar((long)i)).subtract(rMultisetCheck);
             polyInit.add(r);
         }
-        DensePolynomial polyInitHashed = DensePolynomial.create(polyInit);
+        DensePolynomial polyInitHashed = DensePolynomial.create(polyInit, scalarFactory);
 
         List<Scalar> polyAudit = new ArrayList<>();
         for (int i = 0; i < numMemCells; i++) {
-            Scalar r = hashFn.apply(scalarFactory.scalar((long)i), evalTable.get(i), auditTs.get(i)).subtract(rMultisetCheck);
+            Scalar ts = value(auditTs.getZ(), i, scalarFactory).multiply(rHashSq);
+            Scalar r = ts.add(evalTable.get(i).multiply(rHash)).add(scalarFactory.scalar((long)i)).subtract(rMultisetCheck);
             polyAudit.add(r);
         }
-        DensePolynomial polyAuditHashed = DensePolynomial.create(polyAudit);
+        DensePolynomial polyAuditHashed = DensePolynomial.create(polyAudit, scalarFactory);
 
         List<DensePolynomial> polyReadHashedVec = new ArrayList<>();
         List<DensePolynomial> polyWriteHashedVec = new ArrayList<>();
         for (int j = 0; j < addrsVec.size(); j++) {
-            DensePolynomial addrs = addrsVec.get(j);
+            ScalarVector addrs = addrsVec.get(j).getZ();
             DensePolynomial derefs = derefsVec.get(j);
-            DensePolynomial readTs = readTsVec.get(j);
+            ScalarVector readTs = readTsVec.get(j).getZ();
 
-            long numOps = addrs.getLen();
+            long numOps = addrs.size();
 
             List<Scalar> polyReadHashed = new ArrayList<>();
-            for (int i = 0; i < numOps; i++) {
-                Scalar r = hashFn.apply(addrs.get(i), derefs.get(i), readTs.get(i)).subtract(rMultisetCheck);
-                polyReadHashed.add(r);
-            }
-            polyReadHashedVec.add(DensePolynomial.create(polyReadHashed));
-
             List<Scalar> polyWriteHashed = new ArrayList<>();
             for (int i = 0; i < numOps; i++) {
-                Scalar r = hashFn.apply(addrs.get(i), derefs.get(i), readTs.get(i).add(scalarFactory.one())).subtract(rMultisetCheck);
-                polyWriteHashed.add(r);
+                Scalar common = derefs.get(i).multiply(rHash).add(value(addrs, i, scalarFactory)).subtract(rMultisetCheck);
+                Scalar ts = value(readTs, i, scalarFactory).multiply(rHashSq);
+                polyReadHashed.add(common.add(ts));
+                polyWriteHashed.add(common.add(ts).add(rHashSq));
             }
-            polyWriteHashedVec.add(DensePolynomial.create(polyWriteHashed));
+            polyReadHashedVec.add(DensePolynomial.create(polyReadHashed, scalarFactory));
+            polyWriteHashedVec.add(DensePolynomial.create(polyWriteHashed, scalarFactory));
         }
 
         return new Tuple4<>(
@@ -140,4 +144,12 @@ public class Layers {
                 polyAuditHashed
         );
     }
+
+    // Z[i], converted straight from the long when Z holds small integers
+    private static Scalar value(ScalarVector Z, int i, ScalarFactory scalarFactory) {
+        if (Z instanceof SmallScalarVector && !((SmallScalarVector)Z).isPromoted()) {
+            return scalarFactory.scalar(((SmallScalarVector)Z).getLong(i));
+        }
+        return Z.get(i);
+    }
 }
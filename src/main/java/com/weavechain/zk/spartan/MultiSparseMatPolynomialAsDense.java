@@ -1,7 +1,7 @@
 package com.weavechain.zk.spartan;
 
-import com.weavechain.curves.Scalar;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -23,10 +23,10 @@ public class MultiSparseMatPolynomialAsDense {
 
     private final DensePolynomial combMem;
 
-    public Derefs deref(List<Scalar> rowMemVal, List<Scalar> colMemVal, ScalarFactory scalarFactory) {
+    public Derefs deref(ScalarVector rowMemVal, ScalarVector colMemVal, ScalarFactory scalarFactory) {
         return Derefs.create(
-                row.deref(rowMemVal),
-                col.deref(colMemVal),
+                row.deref(rowMemVal, scalarFactory),
+                col.deref(colMemVal, scalarFactory),
                 scalarFactory
         );
     }
@@ -2,6 +2,7 @@ package com.weavechain.zk.spartan;
 
 import com.weavechain.curves.Scalar;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.zk.spartan.util.Parallel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -23,12 +24,16 @@ public class PolyEvalNetwork {
             Pair<Scalar, Scalar> rMemCheck,
             ScalarFactory scalarFactory
     ) {
-        Layers rowLayers = Layers.create(memRx, dense.getRow(), derefs.getRowOpsVal(), rMemCheck, scalarFactory);
-        Layers colLayers = Layers.create(memRy, dense.getCol(), derefs.getColOpsVal(), rMemCheck, scalarFactory);
+        Layers[] layers = new Layers[2];
+        long work = memRx.size() + dense.getRow().getOpsAddr().get(0).getLen();
+        Parallel.forEach(2, work, i -> layers[i] = i == 0
+                ? Layers.create(memRx, dense.getRow(), derefs.getRowOpsVal(), rMemCheck, scalarFactory)
+                : Layers.create(memRy, dense.getCol(), derefs.getColOpsVal(), rMemCheck, scalarFactory)
+        );
 
         return new PolyEvalNetwork(
-                rowLayers,
-                colLayers
+                layers[0],
+                layers[1]
         );
     }
 }
@@ -1,62 +1,72 @@
 package com.weavechain.zk.spartan;
 
 import com.weavechain.curves.Scalar;
+import com.weavechain.curves.ScalarVector;
+import com.weavechain.zk.spartan.util.Parallel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import java.util.ArrayList;
-import java.util.List;
-
+// All layers of the product tree in one buffer, layer i is its left half followed by its right half
 @Getter
 @AllArgsConstructor
 public class ProductCircuit {
 
-    private final List<DensePolynomial> leftVec;
+    private final ScalarVector layers;
 
-    private final List<DensePolynomial> rightVec;
+    // start of each layer, the last entry is the buffer size
+    private final int[] offsets;
 
-    public Scalar evaluate() {
-        int len = leftVec.size();
-        return leftVec.get(len - 1).get(0).multiply(rightVec.get(len - 1).get(0));
+    public int getNumLayers() {
+        return offsets.length - 1;
     }
 
-    public static ProductCircuit create(DensePolynomial poly) {
-        List<DensePolynomial> leftVec = new ArrayList<>();
-        List<DensePolynomial> rightVec = new ArrayList<>();
-
-        long numLayers = Utils.log2(poly.getLen());
-        int sidx = (int)poly.getLen() / 2;
-        DensePolynomial outPLeft = DensePolynomial.create(poly.getZ().subList(0, sidx));
-        DensePolynomial outPRight = DensePolynomial.create(poly.getZ().subList(sidx, poly.getZ().size()));
+    public long getLayerLen(int layerId) {
+        return offsets[layerId + 1] - offsets[layerId];
+    }
 
-        leftVec.add(outPLeft);
-        rightVec.add(outPRight);
+    // the prover binds its own copy, so the circuit can be proven again
+    public DensePolynomial getLeft(int layerId) {
+        int from = offsets[layerId];
+        return DensePolynomial.create(layers.slice(from, from + (int)getLayerLen(layerId) / 2));
+    }
 
-        for (int i = 0; i < numLayers - 1; i++) {
-            Pair<DensePolynomial, DensePolynomial> c = computeLayer(leftVec.get(i), rightVec.get(i));
-            leftVec.add(c.getValue1());
-            rightVec.add(c.getValue2());
-        }
+    public DensePolynomial getRight(int layerId) {
+        int from = offsets[layerId];
+        return DensePolynomial.create(layers.slice(from + (int)getLayerLen(layerId) / 2, offsets[layerId + 1]));
+    }
 
-        return new ProductCircuit(leftVec, rightVec);
+    public Scalar evaluate() {
+        int last = offsets[getNumLayers() - 1];
+        return layers.get(last).multiply(layers.get(last + 1));
     }
 
-    public static Pair<DensePolynomial, DensePolynomial> computeLayer(DensePolynomial inpLeft, DensePolynomial inpRight) {
-        int len = (int)(inpLeft.getLen() + inpRight.getLen());
+    public static ProductCircuit create(DensePolynomial poly) {
+        int len = (int)poly.getLen();
+        int numLayers = (int)Utils.log2((long)len);
 
-        List<Scalar> outpLeft = new ArrayList<>();
-        for (int i = 0; i < len / 4; i++) {
-            outpLeft.add(inpLeft.get(i).multiply(inpRight.get(i)));
+        int[] offsets = new int[numLayers + 1];
+        for (int i = 0; i < numLayers; i++) {
+            offsets[i + 1] = offsets[i] + (len >> i);
         }
 
-        List<Scalar> outpRight = new ArrayList<>();
-        for (int i = len / 4; i < len / 2; i++) {
-            outpRight.add(inpLeft.get(i).multiply(inpRight.get(i)));
+        ScalarVector Z = poly.getZ();
+        ScalarVector layers = Z.zeros(offsets[numLayers]);
+        Parallel.forChunks(len, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                layers.set(i, Z, i);
+            }
+        });
+
+        for (int i = 0; i < numLayers - 1; i++) {
+            computeLayer(layers, offsets[i], len >> i);
         }
 
-        return new Pair<>(
-                DensePolynomial.create(outpLeft),
-                DensePolynomial.create(outpRight)
-        );
+        return new ProductCircuit(layers, offsets);
+    }
+
+    // next[j] = left[j] * right[j], the next layer starts right after this one
+    private static void computeLayer(ScalarVector layers, int offset, int len) {
+        int half = len / 2;
+        Parallel.forChunks(half, (from, to) -> layers.hadamardInto(offset + from, offset + to, layers, offset + half + from, layers, offset + len + from));
     }
 }
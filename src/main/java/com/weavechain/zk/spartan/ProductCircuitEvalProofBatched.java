@@ -2,7 +2,6 @@ package com.weavechain.zk.spartan;
 
 import com.weavechain.curves.Scalar;
 import com.weavechain.curves.ScalarFactory;
-import com.weavechain.zk.spartan.util.Function3;
 import com.weavechain.zk.spartan.util.Tuple3;
 import com.weavechain.zk.spartan.util.Tuple4;
 import lombok.AllArgsConstructor;
@@ -43,11 +42,11 @@ public class ProductCircuitEvalProofBatched {
                 new ArrayList<>()
         );
 
-        int numLayers = prodCircuitVec.get(0).getLeftVec().size();
+        int numLayers = prodCircuitVec.get(0).getNumLayers();
 
         List<Scalar> rand = new ArrayList<>();
         for (int layerId = numLayers - 1; layerId >= 0; layerId--) {
-            long len = prodCircuitVec.get(0).getLeftVec().get(layerId).getLen() +  prodCircuitVec.get(0).getRightVec().get(layerId).getLen();
+            long len = prodCircuitVec.get(0).getLayerLen(layerId);
 
             DensePolynomial polyCPar = DensePolynomial.create(new EqPolynomial(rand).evals(scalarFactory));
             if (polyCPar.getLen() != len / 2) {
@@ -55,13 +54,12 @@ public class ProductCircuitEvalProofBatched {
             }
 
             long numRoundsProd = Utils.log2(polyCPar.getLen());
-            Function3<Scalar, Scalar, Scalar, Scalar> combFn = (polyAComp, polyBComp, polyCComp) -> polyAComp.multiply(polyBComp).multiply(polyCComp);
 
             List<DensePolynomial> polyABatchedPar = new ArrayList<>();
             List<DensePolynomial> polyBBatchedPar = new ArrayList<>();
             for (ProductCircuit p : prodCircuitVec) {
-                polyABatchedPar.add(p.getLeftVec().get(layerId));
-                polyBBatchedPar.add(p.getRightVec().get(layerId));
+                polyABatchedPar.add(p.getLeft(layerId));
+                polyBBatchedPar.add(p.getRight(layerId));
             }
 
             List<DensePolynomial> polyABatchedSeq = new ArrayList<>();
@@ -99,7 +97,6 @@ public class ProductCircuitEvalProofBatched {
                     polyBBatchedSeq,
                     polyCBatchedSeq,
                     coeffVec,
-                    combFn,
                     transcript
             );
             SumcheckInstanceProof proof = psi.getValue1();
@@ -2,11 +2,14 @@ package com.weavechain.zk.spartan;
 
 import com.weavechain.curves.PointFactory;
 import com.weavechain.curves.Scalar;
+import com.weavechain.curves.ScalarAccumulator;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
 import com.weavechain.zk.spartan.commit.R1CSCommitment;
 import com.weavechain.zk.spartan.commit.R1CSDecommitment;
 import com.weavechain.zk.spartan.commit.SparseMatPolyCommitment;
 import com.weavechain.zk.spartan.generators.R1CSCommitmentGens;
+import com.weavechain.zk.spartan.util.Parallel;
 import com.weavechain.zk.spartan.util.Tuple3;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -45,9 +48,9 @@ public class R1CSInstance {
         List<SparseMatEntry> matB = pad(B, numCons, numVars, numVarsPadded, numConsPadded, scalarFactory);
         List<SparseMatEntry> matC = pad(C, numCons, numVars, numVarsPadded, numConsPadded, scalarFactory);
 
-        SparseMatPolynomial polyA = new SparseMatPolynomial(numPolyVarsX, numPolyVarsY, matA);
-        SparseMatPolynomial polyB = new SparseMatPolynomial(numPolyVarsX, numPolyVarsY, matB);
-        SparseMatPolynomial polyC = new SparseMatPolynomial(numPolyVarsX, numPolyVarsY, matC);
+        SparseMatPolynomial polyA = SparseMatPolynomial.create(numPolyVarsX, numPolyVarsY, matA, scalarFactory);
+        SparseMatPolynomial polyB = SparseMatPolynomial.create(numPolyVarsX, numPolyVarsY, matB, scalarFactory);
+        SparseMatPolynomial polyC = SparseMatPolynomial.create(numPolyVarsX, numPolyVarsY, matC, scalarFactory);
 
         return new R1CSInstance(
                 numConsPadded,
@@ -94,22 +97,27 @@ public class R1CSInstance {
         z.add(scalarFactory.one());
         z.addAll(inputs.getAssignment());
 
-        List<Scalar> Az = constraints.multiplyVec(numCons, numPaddedVars + numInputs + 1, z, scalarFactory);
-        List<Scalar> Bz = this.vars.multiplyVec(numCons, numPaddedVars + numInputs + 1, z, scalarFactory);
-        List<Scalar> Cz = this.inputs.multiplyVec(numCons, numPaddedVars + numInputs + 1, z, scalarFactory);
+        List<ScalarVector> mul = SparseMatPolynomial.multiMultiplyVec(List.of(constraints, this.vars, this.inputs), numCons, numPaddedVars + numInputs + 1, scalarFactory.vector(z), scalarFactory);
+        ScalarVector Az = mul.get(0);
+        ScalarVector Bz = mul.get(1);
+        ScalarVector Cz = mul.get(2);
 
         if (Az.size() != numCons || Bz.size() != numCons || Cz.size() != numCons) {
             throw new IllegalArgumentException("Invalid sizes");
         }
 
         //verify if Az * Bz - Cz = [0...]
-        for (int i = 0; i < numCons; i++) {
-            if (!Az.get(i).multiply(Bz.get(i)).equals(Cz.get(i))) {
-                return false;
+        List<Boolean> ok = Parallel.mapChunks((int)numCons, (from, to) -> {
+            ScalarAccumulator e = scalarFactory.accumulator();
+            for (int i = from; i < to; i++) {
+                if (!e.set(Az, i).mulAssign(Bz, i).subAssign(Cz, i).get().equals(scalarFactory.zero())) {
+                    return false;
+                }
             }
-        }
+            return true;
+        });
 
-        return true;
+        return !ok.contains(false);
     }
 
     public Pair<R1CSCommitment, R1CSDecommitment> commit(R1CSCommitmentGens gens, ScalarFactory scalarFactory, PointFactory pointFactory) {
@@ -138,41 +146,33 @@ public class R1CSInstance {
             throw new IllegalArgumentException("Invalid number of cols");
         }
 
+        List<ScalarVector> mul = SparseMatPolynomial.multiMultiplyVec(List.of(constraints, vars, inputs), numRows, numCols, scalarFactory.vector(z), scalarFactory);
         return new Tuple3<>(
-                DensePolynomial.create(constraints.multiplyVec(numRows, numCols, z, scalarFactory)),
-                DensePolynomial.create(vars.multiplyVec(numRows, numCols, z, scalarFactory)),
-                DensePolynomial.create(inputs.multiplyVec(numRows, numCols, z, scalarFactory))
+                DensePolynomial.create(mul.get(0)),
+                DensePolynomial.create(mul.get(1)),
+                DensePolynomial.create(mul.get(2))
         );
     }
 
-    private  List<Scalar> computeEvalTableSparse(SparseMatPolynomial m, List<Scalar> rx, long numRows, long numCols, ScalarFactory scalarFactory) {
-        List<Scalar> evals = new ArrayList<>();
-        for (int i = 0; i < numCols; i++) {
-            evals.add(scalarFactory.zero());
-        }
-
-        for (int i = 0; i < m.getM().size(); i++) {
-            SparseMatEntry entry = m.get(i);
-            Scalar prev = evals.get((int)entry.getCol());
-            Scalar e = rx.get((int)entry.getRow()).multiply(entry.getVal());
-            evals.set((int)entry.getCol(), prev.add(e));
+    public Tuple3<List<Scalar>, List<Scalar>, List<Scalar>> computeEvalTableSparse(long numRows, long numCols, List<Scalar> evals, ScalarFactory scalarFactory) {
+        if (numRows != numCons || numCols < numVars) {
+            throw new IllegalArgumentException("Invalid sizes");
         }
 
-        return evals;
+        List<ScalarVector> tables = SparseMatPolynomial.multiMultiplyVecTransposed(List.of(constraints, vars, inputs), numRows, numCols, scalarFactory.vector(evals), scalarFactory);
+        return new Tuple3<>(
+                tables.get(0).toList(),
+                tables.get(1).toList(),
+                tables.get(2).toList()
+        );
     }
 
-    public Tuple3<List<Scalar>, List<Scalar>, List<Scalar>> computeEvalTableSparse(long numRows, long numCols, List<Scalar> evals, ScalarFactory scalarFactory) {
+    // rA * A + rB * B + rC * C evaluated at evals, the only table phase 2 needs
+    public ScalarVector computeEvalTableSparse(long numRows, long numCols, ScalarVector evals, Scalar rA, Scalar rB, Scalar rC, ScalarFactory scalarFactory) {
         if (numRows != numCons || numCols < numVars) {
             throw new IllegalArgumentException("Invalid sizes");
         }
 
-        List<Scalar> evalsA = computeEvalTableSparse(constraints, evals, numRows, numCols, scalarFactory);
-        List<Scalar> evalsB = computeEvalTableSparse(vars, evals, numRows, numCols, scalarFactory);
-        List<Scalar> evalsC = computeEvalTableSparse(inputs, evals, numRows, numCols, scalarFactory);
-        return new Tuple3<>(
-                evalsA,
-                evalsB,
-                evalsC
-        );
+        return SparseMatPolynomial.multiMultiplyVecTransposed(List.of(constraints, vars, inputs), List.of(rA, rB, rC), numRows, numCols, evals, scalarFactory);
     }
 }
@@ -4,6 +4,7 @@ import com.weavechain.curves.Point;
 import com.weavechain.curves.PointFactory;
 import com.weavechain.curves.Scalar;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
 import com.weavechain.zk.spartan.commit.Commitments;
 import com.weavechain.zk.spartan.commit.PolyCommitment;
 import com.weavechain.zk.spartan.generators.R1CSGens;
@@ -44,10 +45,6 @@ public class R1CSProof {
 
     private final EqualityProof proofEqScPhase2;
 
-    private static Scalar combFunc1(Scalar polyAComp, Scalar polyBComp, Scalar polyCComp, Scalar polyDComp) {
-        return polyAComp.multiply(polyBComp.multiply(polyCComp).subtract(polyDComp));
-    }
-
     public static Tuple4<ZKSumcheckInstanceProof, List<Scalar>, List<Scalar>, Scalar> provePhase1(
             long numNounds,
             DensePolynomial evalsTau,
@@ -69,7 +66,6 @@ public class R1CSProof {
                 evalsAz,
                 evalsBz,
                 evalsCz,
-                R1CSProof::combFunc1,
                 gens.getGens1(),
                 gens.getGens4(),
                 transcript,
@@ -77,10 +73,6 @@ public class R1CSProof {
         );
     }
 
-    private static Scalar combFunc2(Scalar polyAComp, Scalar polyBComp) {
-        return polyAComp.multiply(polyBComp);
-    }
-
     public static Tuple4<ZKSumcheckInstanceProof, List<Scalar>, List<Scalar>, Scalar> provePhase2(
             long numRounds,
             Scalar claim,
@@ -97,7 +89,6 @@ public class R1CSProof {
                 numRounds,
                 evalsZ,
                 evalsABC,
-                R1CSProof::combFunc2,
                 gens.getGens1(),
                 gens.getGens3(),
                 transcript,
@@ -128,7 +119,7 @@ public class R1CSProof {
 
         long numPaddedVars = inst.getNumVars();
         long numVars = vars.size();
-        DensePolynomial polyVars = DensePolynomial.create(vars);
+        DensePolynomial polyVars = DensePolynomial.create(vars, scalarFactory);
         Pair<PolyCommitment, PolyCommitmentBlinds> comm = polyVars.commit(gens.getGensPc(), randomTape, scalarFactory, pointFactory);
         PolyCommitment commVars = comm.getValue1();
         PolyCommitmentBlinds blindsVars = comm.getValue2();
@@ -234,22 +225,14 @@ public class R1CSProof {
         Scalar claimPhase2 = rA.multiply(AzClaim).add(rB.multiply(BzClaim)).add(rC.multiply(CzClaim));
         Scalar blindClaimPhase2 = rA.multiply(AzBlind).add(rB.multiply(BzBlind)).add(rC.multiply(CzBlind));
 
-        List<Scalar> evalsRx = new EqPolynomial(rx).evals(scalarFactory);
-        Tuple3<List<Scalar>, List<Scalar>, List<Scalar>> sres = inst.computeEvalTableSparse(inst.getNumCons(), z.size(), evalsRx, scalarFactory);
-        List<Scalar> evalsA = sres.getValue1();
-        List<Scalar> evalsB = sres.getValue2();
-        List<Scalar> evalsC = sres.getValue3();
-        List<Scalar> evalsABC = new ArrayList<>();
-        for (int i = 0; i < evalsA.size(); i++) {
-            Scalar val = rA.multiply(evalsA.get(i)).add(rB.multiply(evalsB.get(i))).add(rC.multiply(evalsC.get(i)));
-            evalsABC.add(val);
-        }
+        ScalarVector evalsRx = new EqPolynomial(rx).evals(scalarFactory);
+        ScalarVector evalsABC = inst.computeEvalTableSparse(inst.getNumCons(), z.size(), evalsRx, rA, rB, rC, scalarFactory);
 
         Tuple4<ZKSumcheckInstanceProof, List<Scalar>, List<Scalar>, Scalar> res = R1CSProof.provePhase2(
                 numRoundsY,
                 claimPhase2,
                 blindClaimPhase2,
-                DensePolynomial.create(z),
+                DensePolynomial.create(z, scalarFactory),
                 DensePolynomial.create(evalsABC),
                 gens.getGensSc(),
                 transcript,
@@ -34,6 +34,10 @@ public class Snark {
         return inst.commit(gens.getGensR1csEval(), scalarFactory, pointFactory);
     }
 
+    public static SnarkVerifierKey preprocess(R1CS circuit, SNARKGens gens, ScalarFactory scalarFactory, PointFactory pointFactory) {
+        return SnarkVerifierKey.create(circuit, gens, scalarFactory, pointFactory);
+    }
+
     public static Snark prove(
             R1CS circuit,
             SNARKGens gens,
@@ -102,12 +106,28 @@ public class Snark {
             SNARKGens gens,
             Transcript transcript
     ) {
-        ScalarFactory scalarFactory = transcript.getScalarFactory();
-        PointFactory pointFactory = transcript.getPointFactory();
+        R1CSCommitment comm = Snark.encode(circuit.getInst(), gens, transcript.getScalarFactory(), transcript.getPointFactory()).getValue1();
+        return verify(comm, input, gens, transcript);
+    }
 
-        Pair<R1CSCommitment, R1CSDecommitment> snark = Snark.encode(circuit.getInst(), gens, scalarFactory, pointFactory);
-        R1CSCommitment comm = snark.getValue1();
-        R1CSDecommitment decomm = snark.getValue2();
+    public boolean verify(
+            SnarkVerifierKey key,
+            Assignment input,
+            SNARKGens gens,
+            Transcript transcript
+    ) {
+        if (!key.matches(gens, transcript.getPointFactory())) {
+            throw new IllegalArgumentException("Invalid verifier key");
+        }
+        return verify(key.getComm(), input, gens, transcript);
+    }
+
+    private boolean verify(
+            R1CSCommitment comm,
+            Assignment input,
+            SNARKGens gens,
+            Transcript transcript
+    ) {
 
         transcript.appendMessage("protocol-name".getBytes(StandardCharsets.UTF_8), PROTOCOL_NAME.getBytes(StandardCharsets.UTF_8));
         transcript.appendCommitment("comm".getBytes(StandardCharsets.UTF_8), comm);
@@ -0,0 +1,137 @@
+package com.weavechain.zk.spartan;
+
+import com.weavechain.curves.PointFactory;
+import com.weavechain.curves.ScalarFactory;
+import com.weavechain.zk.spartan.commit.R1CSCommitment;
+import com.weavechain.zk.spartan.commit.SparseMatPolyCommitment;
+import com.weavechain.zk.spartan.generators.SNARKGens;
+import lombok.Getter;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+// Everything the verifier needs from the circuit: the R1CS commitment and the identity of the generators it was made with
+@Getter
+public class SnarkVerifierKey {
+
+    private final String curve;
+
+    private final long numCons;
+
+    private final long numVars;
+
+    private final long numInputs;
+
+    private final long numNonZeroEntries;
+
+    private final byte[] genLabel;
+
+    private final byte[] satLabel;
+
+    private final R1CSCommitment comm;
+
+    public SnarkVerifierKey(String curve, long numCons, long numVars, long numInputs, long numNonZeroEntries, byte[] genLabel, byte[] satLabel, R1CSCommitment comm) {
+        this.curve = curve;
+        this.numCons = numCons;
+        this.numVars = numVars;
+        this.numInputs = numInputs;
+        this.numNonZeroEntries = numNonZeroEntries;
+        this.genLabel = genLabel.clone();
+        this.satLabel = satLabel.clone();
+        this.comm = comm;
+    }
+
+    public byte[] getGenLabel() {
+        return genLabel.clone();
+    }
+
+    public byte[] getSatLabel() {
+        return satLabel.clone();
+    }
+
+    public static SnarkVerifierKey create(R1CS circuit, SNARKGens gens, ScalarFactory scalarFactory, PointFactory pointFactory) {
+        R1CSCommitment comm = Snark.encode(circuit.getInst(), gens, scalarFactory, pointFactory).getValue1();
+        return new SnarkVerifierKey(
+                curve(pointFactory),
+                gens.getNumCons(),
+                gens.getNumVars(),
+                gens.getNumInputs(),
+                gens.getNumNonZeroEntries(),
+                gens.getGenLabel(),
+                gens.getSatLabel(),
+                comm
+        );
+    }
+
+    public SNARKGens createGens(PointFactory pointFactory) {
+        return new SNARKGens(numCons, numVars, numInputs, numNonZeroEntries, genLabel, satLabel, pointFactory);
+    }
+
+    public boolean matches(SNARKGens gens, PointFactory pointFactory) {
+        return curve.equals(curve(pointFactory))
+                && numCons == gens.getNumCons()
+                && numVars == gens.getNumVars()
+                && numInputs == gens.getNumInputs()
+                && numNonZeroEntries == gens.getNumNonZeroEntries()
+                && Arrays.equals(genLabel, gens.getGenLabel())
+                && Arrays.equals(satLabel, gens.getSatLabel())
+                && isConsistent();
+    }
+
+    // the commitment sizes the verifier reads must be the padded sizes of the generator parameters
+    private boolean isConsistent() {
+        long numConsPadded = Utils.nextPow2(Math.max(numCons, 2));
+        long numVarsPadded = Utils.nextPow2(Math.max(numVars, numInputs + 1));
+        SparseMatPolyCommitment c = comm.getComm();
+        return comm.getNumCons() == numConsPadded
+                && comm.getNumVars() == numVarsPadded
+                && comm.getNumInputs() == numInputs
+                && c.getBatchSize() == 3
+                && c.getNumMemCells() == Math.max(numConsPadded, 2 * numVarsPadded)
+                && c.getNumOps() > 0
+                && c.getNumOps() == Utils.nextPow2(c.getNumOps())
+                && c.getNumOps() <= Utils.nextPow2(numNonZeroEntries);
+    }
+
+    private static String curve(PointFactory pointFactory) {
+        return pointFactory.getClass().getSimpleName();
+    }
+
+    public byte[] serialize() throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packString(curve);
+        packer.packLong(numCons);
+        packer.packLong(numVars);
+        packer.packLong(numInputs);
+        packer.packLong(numNonZeroEntries);
+        packer.packBinaryHeader(genLabel.length);
+        packer.writePayload(genLabel);
+        packer.packBinaryHeader(satLabel.length);
+        packer.writePayload(satLabel);
+        comm.pack(packer);
+        packer.close();
+
+        return packer.toMessageBuffer().toByteArray();
+    }
+
+    public static SnarkVerifierKey deserialize(byte[] data, PointFactory pointFactory) throws IOException {
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data);
+        String curve = unpacker.unpackString();
+        if (!curve.equals(curve(pointFactory))) {
+            throw new IllegalArgumentException("Invalid curve");
+        }
+        long numCons = unpacker.unpackLong();
+        long numVars = unpacker.unpackLong();
+        long numInputs = unpacker.unpackLong();
+        long numNonZeroEntries = unpacker.unpackLong();
+        byte[] genLabel = unpacker.readPayload(unpacker.unpackBinaryHeader());
+        byte[] satLabel = unpacker.readPayload(unpacker.unpackBinaryHeader());
+        R1CSCommitment comm = R1CSCommitment.unpack(unpacker, pointFactory);
+        unpacker.close();
+
+        return new SnarkVerifierKey(curve, numCons, numVars, numInputs, numNonZeroEntries, genLabel, satLabel, comm);
+    }
+}
@@ -3,6 +3,7 @@ package com.weavechain.zk.spartan;
 import com.weavechain.curves.PointFactory;
 import com.weavechain.curves.Scalar;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
 import com.weavechain.zk.spartan.commit.DerefsCommitment;
 import com.weavechain.zk.spartan.commit.SparseMatPolyCommitment;
 import com.weavechain.zk.spartan.generators.SparseMatPolyCommitmentGens;
@@ -65,8 +66,8 @@ public class SparseMatPolyEvalProof {
         transcript.appendMessage("protocol-name".getBytes(StandardCharsets.UTF_8), PROTOCOL_NAME.getBytes(StandardCharsets.UTF_8));
 
         Pair<List<Scalar>, List<Scalar>> eq = SparseMatPolyEvalProof.equalize(rx, ry, scalarFactory);
-        List<Scalar> memRx = new EqPolynomial(eq.getValue1()).evals(scalarFactory);
-        List<Scalar> memRy = new EqPolynomial(eq.getValue2()).evals(scalarFactory);
+        ScalarVector memRx = new EqPolynomial(eq.getValue1()).evals(scalarFactory);
+        ScalarVector memRy = new EqPolynomial(eq.getValue2()).evals(scalarFactory);
 
         Derefs derefs = dense.deref(memRx, memRy, scalarFactory);
 
@@ -78,8 +79,8 @@ public class SparseMatPolyEvalProof {
         PolyEvalNetwork net = PolyEvalNetwork.create(
                 dense,
                 derefs,
-                memRx,
-                memRy,
+                memRx.toList(),
+                memRy.toList(),
                 new Pair<>(rMemCheck.get(0), rMemCheck.get(1)),
                 scalarFactory
         );
@@ -2,10 +2,13 @@ package com.weavechain.zk.spartan;
 
 import com.weavechain.curves.PointFactory;
 import com.weavechain.curves.Scalar;
+import com.weavechain.curves.ScalarAccumulator;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
 import com.weavechain.zk.spartan.commit.PolyCommitment;
 import com.weavechain.zk.spartan.commit.SparseMatPolyCommitment;
 import com.weavechain.zk.spartan.generators.SparseMatPolyCommitmentGens;
+import com.weavechain.zk.spartan.util.Parallel;
 import com.weavechain.zk.spartan.util.Tuple3;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -22,27 +25,51 @@ public class SparseMatPolynomial {
 
     private long numVarsY;
 
+    // null once the compressed form exists, which also keeps the entry order used by the commitment
     private List<SparseMatEntry> M;
 
+    private CompressedSparseMatrix compressed;
+
+    public SparseMatPolynomial(long numVarsX, long numVarsY, List<SparseMatEntry> M) {
+        this(numVarsX, numVarsY, M, null);
+    }
+
+    public static SparseMatPolynomial create(long numVarsX, long numVarsY, List<SparseMatEntry> M, ScalarFactory scalarFactory) {
+        CompressedSparseMatrix compressed = CompressedSparseMatrix.create(M, (int)(1L << numVarsX), (int)(1L << numVarsY), scalarFactory);
+        return new SparseMatPolynomial(numVarsX, numVarsY, null, compressed);
+    }
+
+    // entries in insertion order, rebuilt from the compressed form when M was dropped
+    public List<SparseMatEntry> getM() {
+        return M != null ? M : compressed.toEntries();
+    }
+
     public SparseMatEntry get(int idx) {
-        return M.get(idx);
+        return M != null ? M.get(idx) : compressed.getEntry(idx);
+    }
+
+    public int getNumEntries() {
+        return M != null ? M.size() : compressed.getNumEntries();
     }
 
     public long getNumNZEntries() {
-        return Utils.nextPow2(M.size());
+        return Utils.nextPow2(getNumEntries());
     }
 
-    public Scalar evaluateWithTables(List<Scalar> evalTableRx, List<Scalar> evalTableRy, ScalarFactory scalarFactory) {
-        Scalar result = scalarFactory.zero();
-        for (int i = 0; i < M.size(); i++) {
-            SparseMatEntry m = M.get(i);
+    public Scalar evaluateWithTables(ScalarVector evalTableRx, ScalarVector evalTableRy, ScalarFactory scalarFactory) {
+        if (compressed != null && evalTableRx.size() >= compressed.getNumRows() && evalTableRy.size() >= compressed.getNumCols()) {
+            return compressed.evaluate(evalTableRx, evalTableRy, scalarFactory);
+        }
+
+        ScalarAccumulator result = scalarFactory.accumulator();
+        ScalarAccumulator e = scalarFactory.accumulator();
+        for (SparseMatEntry m : getM()) {
             int row = (int)m.getRow();
             int col = (int)m.getCol();
-            Scalar val = m.getVal();
-            Scalar e = evalTableRx.get(row).multiply(evalTableRy.get(col)).multiply(val);
-            result = result.add(e);
+            e.set(evalTableRx, row).mulAssign(evalTableRy, col).mulAssign(m.getVal());
+            result.addAssign(e);
         }
-        return result;
+        return result.get();
     }
 
     public Tuple3<List<Long>, List<Long>, List<Scalar>> sparseToDenseVecs(int N, ScalarFactory scalarFactory) {
@@ -53,8 +80,8 @@ public class SparseMatPolynomial {
         List<Long> opsCol = new ArrayList<>(Collections.nCopies(N, 0L));
         List<Scalar> val = new ArrayList<>(Collections.nCopies(N, scalarFactory.zero()));
 
-        for (int i = 0; i < M.size(); i++) {
-            SparseMatEntry m = M.get(i);
+        for (int i = 0; i < getNumEntries(); i++) {
+            SparseMatEntry m = get(i);
             opsRow.set(i, m.getRow());
             opsCol.set(i, m.getCol());
             val.set(i, m.getVal());
@@ -68,8 +95,16 @@ public class SparseMatPolynomial {
     }
 
     public static List<Scalar> multiEvaluate(List<SparseMatPolynomial> polys, List<Scalar> rx, List<Scalar> ry, ScalarFactory scalarFactory) {
-        List<Scalar> evalTableRx = new EqPolynomial(rx).evals(scalarFactory);
-        List<Scalar> evalTableRy = new EqPolynomial(ry).evals(scalarFactory);
+        List<List<Scalar>> points = List.of(rx, ry);
+        ScalarVector[] tables = new ScalarVector[2];
+        Parallel.forEach(2, 1L << Math.max(rx.size(), ry.size()), i -> tables[i] = new EqPolynomial(points.get(i)).evals(scalarFactory));
+        ScalarVector evalTableRx = tables[0];
+        ScalarVector evalTableRy = tables[1];
+
+        List<CompressedSparseMatrix> mats = compressed(polys, 0);
+        if (mats != null && fits(mats, evalTableRx, evalTableRy)) {
+            return CompressedSparseMatrix.evaluate(mats, evalTableRx, evalTableRy, scalarFactory);
+        }
 
         List<Scalar> result = new ArrayList<>();
         for (SparseMatPolynomial p : polys) {
@@ -78,6 +113,23 @@ public class SparseMatPolynomial {
         return result;
     }
 
+    public static List<ScalarVector> multiMultiplyVec(List<SparseMatPolynomial> polys, long numRows, long numCols, ScalarVector z, ScalarFactory scalarFactory) {
+        if (z.size() != numCols) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        List<CompressedSparseMatrix> mats = compressed(polys, numRows);
+        if (mats != null) {
+            return CompressedSparseMatrix.multiplyVecs(mats, (int)numRows, z, scalarFactory);
+        }
+
+        List<ScalarVector> result = new ArrayList<>();
+        for (SparseMatPolynomial p : polys) {
+            result.add(p.multiplyVec(numRows, numCols, z, scalarFactory));
+        }
+        return result;
+    }
+
     public static Pair<SparseMatPolyCommitment, MultiSparseMatPolynomialAsDense> multiCommit(List<SparseMatPolynomial> sparsePolys, SparseMatPolyCommitmentGens gens, ScalarFactory scalarFactory, PointFactory pointFactory) {
         int batchSize = sparsePolys.size();
         MultiSparseMatPolynomialAsDense dense = multiSparseToDense(sparsePolys, scalarFactory);
@@ -113,7 +165,7 @@ public class SparseMatPolynomial {
             Tuple3<List<Long>, List<Long>, List<Scalar>> dense = p.sparseToDenseVecs((int)N, scalarFactory);
             opsRowVec.add(dense.getValue1());
             opsColVec.add(dense.getValue2());
-            valVec.add(DensePolynomial.create(dense.getValue3()));
+            valVec.add(DensePolynomial.create(dense.getValue3(), scalarFactory));
         }
 
         SparseMatPolynomial anyPoly = sparsePolys.get(0);
@@ -124,8 +176,7 @@ public class SparseMatPolynomial {
         AddrTimestamps col = AddrTimestamps.create(numMemCells, N, opsColVec, scalarFactory);
 
         DensePolynomial combOps = DensePolynomial.merge(List.of(row.getOpsAddr(), row.getReadTs(), col.getOpsAddr(), col.getReadTs(), valVec), scalarFactory);
-        DensePolynomial combMem = row.getAuditTs().clone();
-        combMem.extend(col.getAuditTs());
+        DensePolynomial combMem = DensePolynomial.merge(List.of(List.of(row.getAuditTs(), col.getAuditTs())), scalarFactory);
 
         return new MultiSparseMatPolynomialAsDense(
                 sparsePolys.size(),
@@ -143,11 +194,15 @@ public class SparseMatPolynomial {
             throw new IllegalArgumentException("Invalid sizes");
         }
 
+        if (compressed != null && numRows <= compressed.getNumRows()) {
+            return compressed.multiplyVec((int)numRows, scalarFactory.vector(z), scalarFactory).toList();
+        }
+
         for (int i = 0; i < numRows; i++) {
             result.add(scalarFactory.zero());
         }
 
-        for (SparseMatEntry entry : M) {
+        for (SparseMatEntry entry : getM()) {
             int row = (int)entry.getRow();
             int col = (int)entry.getCol();
             Scalar val = entry.getVal();
@@ -159,4 +214,84 @@ public class SparseMatPolynomial {
 
         return result;
     }
+
+    public ScalarVector multiplyVec(long numRows, long numCols, ScalarVector z, ScalarFactory scalarFactory) {
+        if (z.size() != numCols) {
+            throw new IllegalArgumentException("Invalid sizes");
+        }
+
+        if (compressed != null && numRows <= compressed.getNumRows()) {
+            return compressed.multiplyVec((int)numRows, z, scalarFactory);
+        }
+        return scalarFactory.vector(multiplyVec(numRows, numCols, z.toList(), scalarFactory));
+    }
+
+    public static List<ScalarVector> multiMultiplyVecTransposed(List<SparseMatPolynomial> polys, long numRows, long numCols, ScalarVector x, ScalarFactory scalarFactory) {
+        List<CompressedSparseMatrix> mats = compressed(polys, numRows);
+        if (mats != null) {
+            return CompressedSparseMatrix.multiplyVecsTransposed(mats, (int)numCols, x, scalarFactory);
+        }
+
+        List<ScalarVector> result = new ArrayList<>();
+        for (SparseMatPolynomial p : polys) {
+            result.add(p.multiplyVecTransposed(numRows, numCols, x, scalarFactory));
+        }
+        return result;
+    }
+
+    // sum_i weights_i * x^T * M_i, the random linear combination of the tables
+    public static ScalarVector multiMultiplyVecTransposed(List<SparseMatPolynomial> polys, List<Scalar> weights, long numRows, long numCols, ScalarVector x, ScalarFactory scalarFactory) {
+        List<CompressedSparseMatrix> mats = compressed(polys, numRows);
+        if (mats != null) {
+            return CompressedSparseMatrix.multiplyVecsTransposed(mats, weights, (int)numCols, x, scalarFactory);
+        }
+
+        List<ScalarVector> tables = multiMultiplyVecTransposed(polys, numRows, numCols, x, scalarFactory);
+        ScalarVector result = scalarFactory.vector((int)numCols);
+        ScalarAccumulator e = scalarFactory.accumulator();
+        for (int c = 0; c < numCols; c++) {
+            e.set(scalarFactory.zero());
+            for (int i = 0; i < tables.size(); i++) {
+                e.fma(weights.get(i), tables.get(i).get(c));
+            }
+            result.set(c, e.get());
+        }
+        return result;
+    }
+
+    private static boolean fits(List<CompressedSparseMatrix> mats, ScalarVector evalTableRx, ScalarVector evalTableRy) {
+        for (CompressedSparseMatrix m : mats) {
+            if (evalTableRx.size() < m.getNumRows() || evalTableRy.size() < m.getNumCols()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<CompressedSparseMatrix> compressed(List<SparseMatPolynomial> polys, long numRows) {
+        List<CompressedSparseMatrix> mats = new ArrayList<>();
+        for (SparseMatPolynomial p : polys) {
+            if (p.getCompressed() == null || numRows > p.getCompressed().getNumRows()) {
+                return null;
+            }
+            mats.add(p.getCompressed());
+        }
+        return mats;
+    }
+
+    // x^T * M restricted to the first numCols columns
+    public ScalarVector multiplyVecTransposed(long numRows, long numCols, ScalarVector x, ScalarFactory scalarFactory) {
+        if (compressed != null && numRows <= compressed.getNumRows()) {
+            return compressed.multiplyVecTransposed((int)numCols, x, scalarFactory);
+        }
+
+        ScalarVector result = scalarFactory.vector((int)numCols);
+        ScalarAccumulator e = scalarFactory.accumulator();
+        for (SparseMatEntry entry : getM()) {
+            int col = (int)entry.getCol();
+            e.set(x, (int)entry.getRow()).mulAssign(entry.getVal()).addAssign(result, col);
+            result.set(col, e.get());
+        }
+        return result;
+    }
 }
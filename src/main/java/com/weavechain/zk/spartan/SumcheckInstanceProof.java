@@ -1,8 +1,12 @@
 package com.weavechain.zk.spartan;
 
 import com.weavechain.curves.Scalar;
+import com.weavechain.curves.ScalarAccumulator;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
+import com.weavechain.curves.SumcheckKernels;
 import com.weavechain.zk.spartan.util.Function3;
+import com.weavechain.zk.spartan.util.Parallel;
 import com.weavechain.zk.spartan.util.Tuple3;
 import com.weavechain.zk.spartan.util.Tuple4;
 import lombok.AllArgsConstructor;
@@ -21,6 +25,39 @@ public class SumcheckInstanceProof {
 
     private final List<CompressedUniPoly> compressedPolys;
 
+    public static Tuple4<
+            SumcheckInstanceProof,
+            List<Scalar>,
+            Tuple3<List<Scalar>, List<Scalar>, Scalar>,
+            Tuple3<List<Scalar>, List<Scalar>, List<Scalar>>
+        > proveCubicBatched(
+            Scalar claim,
+            long numRounds,
+            List<DensePolynomial> polyAVecPar,
+            List<DensePolynomial> polyBVecPar,
+            DensePolynomial polyCPar,
+            List<DensePolynomial> polyAVecSeq,
+            List<DensePolynomial> polyBVecSeq,
+            List<DensePolynomial> polyCVecSeq,
+            List<Scalar> coeffs,
+            Transcript transcript
+    ) {
+        ScalarFactory scalarFactory = transcript.getScalarFactory();
+        return proveCubicBatched(
+                claim,
+                numRounds,
+                polyAVecPar,
+                polyBVecPar,
+                polyCPar,
+                polyAVecSeq,
+                polyBVecSeq,
+                polyCVecSeq,
+                coeffs,
+                (A, B, C, len, from, to) -> SumcheckKernels.product3(A, B, C, len, from, to, scalarFactory),
+                transcript
+        );
+    }
+
     public static Tuple4<
             SumcheckInstanceProof,
             List<Scalar>,
@@ -40,7 +77,40 @@ public class SumcheckInstanceProof {
             Transcript transcript
     ) {
         ScalarFactory scalarFactory = transcript.getScalarFactory();
-        Scalar ZERO = scalarFactory.zero();
+        return proveCubicBatched(
+                claim,
+                numRounds,
+                polyAVecPar,
+                polyBVecPar,
+                polyCPar,
+                polyAVecSeq,
+                polyBVecSeq,
+                polyCVecSeq,
+                coeffs,
+                (A, B, C, len, from, to) -> combineCubic(A, B, C, len, from, to, combFunc, scalarFactory),
+                transcript
+        );
+    }
+
+    private static Tuple4<
+            SumcheckInstanceProof,
+            List<Scalar>,
+            Tuple3<List<Scalar>, List<Scalar>, Scalar>,
+            Tuple3<List<Scalar>, List<Scalar>, List<Scalar>>
+        > proveCubicBatched(
+            Scalar claim,
+            long numRounds,
+            List<DensePolynomial> polyAVecPar,
+            List<DensePolynomial> polyBVecPar,
+            DensePolynomial polyCPar,
+            List<DensePolynomial> polyAVecSeq,
+            List<DensePolynomial> polyBVecSeq,
+            List<DensePolynomial> polyCVecSeq,
+            List<Scalar> coeffs,
+            CubicKernel kernel,
+            Transcript transcript
+    ) {
+        ScalarFactory scalarFactory = transcript.getScalarFactory();
         Scalar ONE = scalarFactory.one();
 
         Scalar e = claim;
@@ -51,73 +121,25 @@ public class SumcheckInstanceProof {
             List<Tuple3<Scalar, Scalar, Scalar>> evals = new ArrayList<>();
 
             for (int k = 0; k < polyAVecPar.size(); k++) {
-                DensePolynomial polyA = polyAVecPar.get(k);
-                DensePolynomial polyB = polyBVecPar.get(k);
-
-                Scalar evalPoint0 = ZERO;
-                Scalar evalPoint2 = ZERO;
-                Scalar evalPoint3 = ZERO;
-
-                int len = (int)polyA.getLen() / 2;
-
-                for (int i = 0; i < len; i++) {
-                    // eval 0: bound_func is A(low)
-                    evalPoint0 = evalPoint0.add(combFunc.apply(polyA.get(i), polyB.get(i), polyCPar.get(i)));
-
-                    // eval 2: bound_func is -A(low) + 2*A(high)
-                    Scalar polyABoundPoint = polyA.get(len + i).add(polyA.get(len + i)).subtract(polyA.get(i));
-                    Scalar polyBBoundPoint = polyB.get(len + i).add(polyB.get(len + i)).subtract(polyB.get(i));
-                    Scalar polyCBoundPoint = polyCPar.get(len + i).add(polyCPar.get(len + i)).subtract(polyCPar.get(i));
-                    evalPoint2 = evalPoint2.add(combFunc.apply(polyABoundPoint, polyBBoundPoint, polyCBoundPoint));
-
-                    // eval 3: bound_func is -2A(low) + 3A(high); computed incrementally with bound_func applied to eval(2)
-                    polyABoundPoint = polyABoundPoint.add(polyA.get(len + i)).subtract(polyA.get(i));
-                    polyBBoundPoint = polyBBoundPoint.add(polyB.get(len + i)).subtract(polyB.get(i));
-                    polyCBoundPoint = polyCBoundPoint.add(polyCPar.get(len + i)).subtract(polyCPar.get(i));
-                    evalPoint3 = evalPoint3.add(combFunc.apply(polyABoundPoint, polyBBoundPoint, polyCBoundPoint));
-                }
-
-                evals.add(new Tuple3<>(evalPoint0, evalPoint2, evalPoint3));
+                evals.add(evalCubic(polyAVecPar.get(k), polyBVecPar.get(k), polyCPar, kernel, scalarFactory));
             }
 
             for (int k = 0; k < polyAVecSeq.size(); k++) {
-                DensePolynomial polyA = polyAVecSeq.get(k);
-                DensePolynomial polyB = polyBVecSeq.get(k);
-                DensePolynomial polyC = polyCVecSeq.get(k);
-
-                Scalar evalPoint0 = ZERO;
-                Scalar evalPoint2 = ZERO;
-                Scalar evalPoint3 = ZERO;
-
-                int len = (int)polyA.getLen() / 2;
-
-                for (int i = 0; i < len; i++) {
-                    evalPoint0 = evalPoint0.add(combFunc.apply(polyA.get(i), polyB.get(i), polyC.get(i)));
-
-                    Scalar polyABoundPoint = polyA.get(len + i).add(polyA.get(len + i)).subtract(polyA.get(i));
-                    Scalar polyBBoundPoint = polyB.get(len + i).add(polyB.get(len + i)).subtract(polyB.get(i));
-                    Scalar polyCBoundPoint = polyC.get(len + i).add(polyC.get(len + i)).subtract(polyC.get(i));
-                    evalPoint2 = evalPoint2.add(combFunc.apply(polyABoundPoint, polyBBoundPoint, polyCBoundPoint));
-
-                    // eval 3: bound_func is -2A(low) + 3A(high); computed incrementally with bound_func applied to eval(2)
-                    polyABoundPoint = polyABoundPoint.add(polyA.get(len + i)).subtract(polyA.get(i));
-                    polyBBoundPoint = polyBBoundPoint.add(polyB.get(len + i)).subtract(polyB.get(i));
-                    polyCBoundPoint = polyCBoundPoint.add(polyC.get(len + i)).subtract(polyC.get(i));
-                    evalPoint3 = evalPoint3.add(combFunc.apply(polyABoundPoint, polyBBoundPoint, polyCBoundPoint));
-                }
-
-                evals.add(new Tuple3<>(evalPoint0, evalPoint2, evalPoint3));
+                evals.add(evalCubic(polyAVecSeq.get(k), polyBVecSeq.get(k), polyCVecSeq.get(k), kernel, scalarFactory));
             }
 
-            Scalar evalsCombined0 = ZERO;
-            Scalar evalsCombined2 = ZERO;
-            Scalar evalsCombined3 = ZERO;
+            ScalarAccumulator combined0 = scalarFactory.accumulator();
+            ScalarAccumulator combined2 = scalarFactory.accumulator();
+            ScalarAccumulator combined3 = scalarFactory.accumulator();
             for (int i = 0; i < evals.size(); i++) {
                 Scalar c = coeffs.get(i);
-                evalsCombined0 = evalsCombined0.add(evals.get(i).getValue1().multiply(c));
-                evalsCombined2 = evalsCombined2.add(evals.get(i).getValue2().multiply(c));
-                evalsCombined3 = evalsCombined3.add(evals.get(i).getValue3().multiply(c));
+                combined0.fma(evals.get(i).getValue1(), c);
+                combined2.fma(evals.get(i).getValue2(), c);
+                combined3.fma(evals.get(i).getValue3(), c);
             }
+            Scalar evalsCombined0 = combined0.get();
+            Scalar evalsCombined2 = combined2.get();
+            Scalar evalsCombined3 = combined3.get();
 
             List<Scalar> evalsComb = List.of(evalsCombined0, e.subtract(evalsCombined0), evalsCombined2, evalsCombined3);
             UniPoly poly = UniPoly.fromEvals(evalsComb, scalarFactory);
@@ -127,16 +149,23 @@ public class SumcheckInstanceProof {
             r.add(rj);
 
             // bound all tables to the verifier's challenge
+            List<DensePolynomial> tables = new ArrayList<>();
             for (int i = 0; i < polyAVecPar.size(); i++) {
-                polyAVecPar.get(i).boundPolyVarTop(rj);
-                polyBVecPar.get(i).boundPolyVarTop(rj);
+                tables.add(polyAVecPar.get(i));
+                tables.add(polyBVecPar.get(i));
             }
-            polyCPar.boundPolyVarTop(rj);
+            tables.add(polyCPar);
 
             for (int i = 0; i < polyAVecSeq.size(); i++) {
-                polyAVecSeq.get(i).boundPolyVarTop(rj);
-                polyBVecSeq.get(i).boundPolyVarTop(rj);
-                polyCVecSeq.get(i).boundPolyVarTop(rj);
+                tables.add(polyAVecSeq.get(i));
+                tables.add(polyBVecSeq.get(i));
+                tables.add(polyCVecSeq.get(i));
+            }
+            if (j == 0) {
+                // the full-size layers are no longer needed once bound
+                Parallel.forEach(tables.size(), polyCPar.getLen() / 2, i -> tables.get(i).boundPolyVarTopCompact(rj));
+            } else {
+                Parallel.forEach(tables.size(), polyCPar.getLen() / 2, i -> tables.get(i).boundPolyVarTop(rj));
             }
 
             e = poly.evaluate(rj);
@@ -173,6 +202,77 @@ public class SumcheckInstanceProof {
         );
     }
 
+    private interface CubicKernel {
+        List<Scalar> apply(ScalarVector A, ScalarVector B, ScalarVector C, int len, int from, int to);
+    }
+
+    private static Tuple3<Scalar, Scalar, Scalar> evalCubic(
+            DensePolynomial polyA,
+            DensePolynomial polyB,
+            DensePolynomial polyC,
+            CubicKernel kernel,
+            ScalarFactory scalarFactory
+    ) {
+        int len = (int)polyA.getLen() / 2;
+        ScalarVector A = polyA.getZ();
+        ScalarVector B = polyB.getZ();
+        ScalarVector C = polyC.getZ();
+
+        List<List<Scalar>> partials = Parallel.mapChunks(
+                len,
+                (from, to) -> kernel.apply(A, B, C, len, from, to)
+        );
+
+        ScalarAccumulator evalPoint0 = scalarFactory.accumulator();
+        ScalarAccumulator evalPoint2 = scalarFactory.accumulator();
+        ScalarAccumulator evalPoint3 = scalarFactory.accumulator();
+        for (List<Scalar> evals : partials) {
+            evalPoint0.addAssign(evals.get(0));
+            evalPoint2.addAssign(evals.get(1));
+            evalPoint3.addAssign(evals.get(2));
+        }
+
+        return new Tuple3<>(evalPoint0.get(), evalPoint2.get(), evalPoint3.get());
+    }
+
+    private static List<Scalar> combineCubic(
+            ScalarVector A,
+            ScalarVector B,
+            ScalarVector C,
+            int len,
+            int from,
+            int to,
+            Function3<Scalar, Scalar, Scalar, Scalar> combFunc,
+            ScalarFactory scalarFactory
+    ) {
+        ScalarAccumulator evalPoint0 = scalarFactory.accumulator();
+        ScalarAccumulator evalPoint2 = scalarFactory.accumulator();
+        ScalarAccumulator evalPoint3 = scalarFactory.accumulator();
+
+        ScalarAccumulator polyABoundPoint = scalarFactory.accumulator();
+        ScalarAccumulator polyBBoundPoint = scalarFactory.accumulator();
+        ScalarAccumulator polyCBoundPoint = scalarFactory.accumulator();
+
+        for (int i = from; i < to; i++) {
+            // eval 0: bound_func is A(low)
+            evalPoint0.addAssign(combFunc.apply(A.get(i), B.get(i), C.get(i)));
+
+            // eval 2: bound_func is -A(low) + 2*A(high)
+            polyABoundPoint.set(A, len + i).addAssign(A, len + i).subAssign(A, i);
+            polyBBoundPoint.set(B, len + i).addAssign(B, len + i).subAssign(B, i);
+            polyCBoundPoint.set(C, len + i).addAssign(C, len + i).subAssign(C, i);
+            evalPoint2.addAssign(combFunc.apply(polyABoundPoint.get(), polyBBoundPoint.get(), polyCBoundPoint.get()));
+
+            // eval 3: bound_func is -2A(low) + 3A(high); computed incrementally with bound_func applied to eval(2)
+            polyABoundPoint.addAssign(A, len + i).subAssign(A, i);
+            polyBBoundPoint.addAssign(B, len + i).subAssign(B, i);
+            polyCBoundPoint.addAssign(C, len + i).subAssign(C, i);
+            evalPoint3.addAssign(combFunc.apply(polyABoundPoint.get(), polyBBoundPoint.get(), polyCBoundPoint.get()));
+        }
+
+        return List.of(evalPoint0.get(), evalPoint2.get(), evalPoint3.get());
+    }
+
     public Pair<Scalar, List<Scalar>> verify(
             Scalar claim,
             long numRounds,
@@ -3,10 +3,14 @@ package com.weavechain.zk.spartan;
 import com.weavechain.curves.Point;
 import com.weavechain.curves.PointFactory;
 import com.weavechain.curves.Scalar;
+import com.weavechain.curves.ScalarAccumulator;
 import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
+import com.weavechain.curves.SumcheckKernels;
 import com.weavechain.zk.spartan.commit.Commitments;
 import com.weavechain.zk.spartan.generators.MultiCommitGens;
 import com.weavechain.zk.spartan.util.Function4;
+import com.weavechain.zk.spartan.util.Parallel;
 import com.weavechain.zk.spartan.util.Tuple3;
 import com.weavechain.zk.spartan.util.Tuple4;
 import lombok.AllArgsConstructor;
@@ -24,12 +28,41 @@ import java.util.function.BiFunction;
 @AllArgsConstructor
 public class ZKSumcheckInstanceProof {
 
+    private static final int BIND_BLOCK = 256;
+
     private final List<Point> commPolys;
 
     private final List<Point> commEvals;
 
     private final List<DotProductProof> proofs;
 
+    // sumcheck for A * B, evaluated directly on the polynomial tables
+    public static Tuple4<ZKSumcheckInstanceProof, List<Scalar>, List<Scalar>, Scalar> proveQuad(
+            Scalar claim,
+            Scalar blindClaim,
+            long numRounds,
+            DensePolynomial polyA,
+            DensePolynomial polyB,
+            MultiCommitGens gens1,
+            MultiCommitGens gensn,
+            Transcript transcript,
+            RandomTape randomTape
+    ) {
+        ScalarFactory scalarFactory = transcript.getScalarFactory();
+        return proveQuadRounds(
+                claim,
+                blindClaim,
+                numRounds,
+                polyA,
+                polyB,
+                (A, B, len, from, to) -> SumcheckKernels.product2(A, B, len, from, to, scalarFactory),
+                gens1,
+                gensn,
+                transcript,
+                randomTape
+        );
+    }
+
     public static Tuple4<ZKSumcheckInstanceProof, List<Scalar>, List<Scalar>, Scalar> proveQuad(
             Scalar claim,
             Scalar blindClaim,
@@ -41,6 +74,33 @@ public class ZKSumcheckInstanceProof {
             MultiCommitGens gensn,
             Transcript transcript,
             RandomTape randomTape
+    ) {
+        ScalarFactory scalarFactory = transcript.getScalarFactory();
+        return proveQuadRounds(
+                claim,
+                blindClaim,
+                numRounds,
+                polyA,
+                polyB,
+                (A, B, len, from, to) -> combineQuad(A, B, len, from, to, combFunc, scalarFactory),
+                gens1,
+                gensn,
+                transcript,
+                randomTape
+        );
+    }
+
+    private static Tuple4<ZKSumcheckInstanceProof, List<Scalar>, List<Scalar>, Scalar> proveQuadRounds(
+            Scalar claim,
+            Scalar blindClaim,
+            long numRounds,
+            DensePolynomial polyA,
+            DensePolynomial polyB,
+            QuadKernel kernel,
+            MultiCommitGens gens1,
+            MultiCommitGens gensn,
+            Transcript transcript,
+            RandomTape randomTape
     ) {
         ScalarFactory scalarFactory = transcript.getScalarFactory();
         PointFactory pointFactory = transcript.getPointFactory();
@@ -58,18 +118,30 @@ public class ZKSumcheckInstanceProof {
         List<Point> commEvals = new ArrayList<>();
         List<DotProductProof> proofs = new ArrayList<>();
 
-        for (int j = 0; j < numRounds; j++) {
-            Scalar evalPoint0 = ZERO;
-            Scalar evalPoint2 = ZERO;
+        polyA.promote();
+        polyB.promote();
 
-            int len = (int)polyA.getLen() / 2;
-            for (int i = 0; i < len; i++) {
-                evalPoint0 = evalPoint0.add(combFunc.apply(polyA.get(i), polyB.get(i)));
+        Scalar pendingR = null;
+        for (int j = 0; j < numRounds; j++) {
+            Scalar bindR = pendingR;
+            int len = (int)polyA.getLen() / (bindR != null ? 4 : 2);
+            List<Pair<ScalarAccumulator, ScalarAccumulator>> partials = Parallel.mapChunks(
+                    len,
+                    (from, to) -> evalQuad(polyA, polyB, bindR, len, from, to, kernel, scalarFactory)
+            );
+            if (bindR != null) {
+                polyA.completeBindTop();
+                polyB.completeBindTop();
+            }
 
-                Scalar polyABoundPoint = polyA.get(len + i).add(polyA.get(len + i)).subtract(polyA.get(i));
-                Scalar polyBBoundPoint = polyB.get(len + i).add(polyB.get(len + i)).subtract(polyB.get(i));
-                evalPoint2 = evalPoint2.add(combFunc.apply(polyABoundPoint, polyBBoundPoint));
+            ScalarAccumulator acc0 = partials.get(0).getValue1();
+            ScalarAccumulator acc2 = partials.get(0).getValue2();
+            for (int i = 1; i < partials.size(); i++) {
+                acc0.addAssign(partials.get(i).getValue1());
+                acc2.addAssign(partials.get(i).getValue2());
             }
+            Scalar evalPoint0 = acc0.get();
+            Scalar evalPoint2 = acc2.get();
 
             List<Scalar> evals = List.of(
                     evalPoint0,
@@ -84,8 +156,8 @@ public class ZKSumcheckInstanceProof {
 
             Scalar rj = transcript.challengeScalar("challenge_nextround".getBytes(StandardCharsets.UTF_8));
 
-            polyA.boundPolyVarTop(rj);
-            polyB.boundPolyVarTop(rj);
+            // binding to rj is fused into the next round's evaluation pass
+            pendingR = rj;
 
             Scalar eval = poly.evaluate(rj);
             Point commEval = Commitments.commit(eval, blindsEvals.get(j), gens1);
@@ -159,6 +231,11 @@ public class ZKSumcheckInstanceProof {
             commEvals.add(commClaimPerRound);
         }
 
+        if (pendingR != null) {
+            polyA.boundPolyVarTop(pendingR);
+            polyB.boundPolyVarTop(pendingR);
+        }
+
         return new Tuple4<>(
                 new ZKSumcheckInstanceProof(commPolys, commEvals, proofs),
                 r,
@@ -167,6 +244,37 @@ public class ZKSumcheckInstanceProof {
         );
     }
 
+    // sumcheck for A * (B * C - D), evaluated directly on the polynomial tables
+    public static Tuple4<ZKSumcheckInstanceProof, List<Scalar>, List<Scalar>, Scalar> proveCubicWithAdditiveTerm(
+            Scalar claim,
+            Scalar blindClaim,
+            long numRounds,
+            DensePolynomial polyA,
+            DensePolynomial polyB,
+            DensePolynomial polyC,
+            DensePolynomial polyD,
+            MultiCommitGens gens1,
+            MultiCommitGens gensn,
+            Transcript transcript,
+            RandomTape randomTape
+    ) {
+        ScalarFactory scalarFactory = transcript.getScalarFactory();
+        return proveCubicRounds(
+                claim,
+                blindClaim,
+                numRounds,
+                polyA,
+                polyB,
+                polyC,
+                polyD,
+                (A, B, C, D, len, from, to) -> SumcheckKernels.cubicAdditive(A, B, C, D, len, from, to, scalarFactory),
+                gens1,
+                gensn,
+                transcript,
+                randomTape
+        );
+    }
+
     public static Tuple4<ZKSumcheckInstanceProof, List<Scalar>, List<Scalar>, Scalar> proveCubicWithAdditiveTerm(
             Scalar claim,
             Scalar blindClaim,
@@ -180,6 +288,37 @@ public class ZKSumcheckInstanceProof {
             MultiCommitGens gensn,
             Transcript transcript,
             RandomTape randomTape
+    ) {
+        ScalarFactory scalarFactory = transcript.getScalarFactory();
+        return proveCubicRounds(
+                claim,
+                blindClaim,
+                numRounds,
+                polyA,
+                polyB,
+                polyC,
+                polyD,
+                (A, B, C, D, len, from, to) -> combineCubic(A, B, C, D, len, from, to, combFunc, scalarFactory),
+                gens1,
+                gensn,
+                transcript,
+                randomTape
+        );
+    }
+
+    private static Tuple4<ZKSumcheckInstanceProof, List<Scalar>, List<Scalar>, Scalar> proveCubicRounds(
+            Scalar claim,
+            Scalar blindClaim,
+            long numRounds,
+            DensePolynomial polyA,
+            DensePolynomial polyB,
+            DensePolynomial polyC,
+            DensePolynomial polyD,
+            CubicKernel kernel,
+            MultiCommitGens gens1,
+            MultiCommitGens gensn,
+            Transcript transcript,
+            RandomTape randomTape
     ) {
         ScalarFactory scalarFactory = transcript.getScalarFactory();
         PointFactory pointFactory = transcript.getPointFactory();
@@ -197,28 +336,37 @@ public class ZKSumcheckInstanceProof {
         List<Point> commEvals = new ArrayList<>();
         List<DotProductProof> proofs = new ArrayList<>();
 
+        for (DensePolynomial p : List.of(polyA, polyB, polyC, polyD)) {
+            p.promote();
+        }
+
+        Scalar pendingR = null;
         for (int j = 0; j < numRounds; j++) {
-            Scalar evalPoint0 = ZERO;
-            Scalar evalPoint2 = ZERO;
-            Scalar evalPoint3 = ZERO;
-
-            int len = (int)polyA.getLen() / 2;
-            for (int i = 0; i < len; i++) {
-                evalPoint0 = evalPoint0.add(combFunc.apply(polyA.get(i), polyB.get(i), polyC.get(i), polyD.get(i)));
-
-                Scalar polyABoundPoint = polyA.get(len + i).add(polyA.get(len + i)).subtract(polyA.get(i));
-                Scalar polyBBoundPoint = polyB.get(len + i).add(polyB.get(len + i)).subtract(polyB.get(i));
-                Scalar polyCBoundPoint = polyC.get(len + i).add(polyC.get(len + i)).subtract(polyC.get(i));
-                Scalar polyDBoundPoint = polyD.get(len + i).add(polyD.get(len + i)).subtract(polyD.get(i));
-                evalPoint2 = evalPoint2.add(combFunc.apply(polyABoundPoint, polyBBoundPoint, polyCBoundPoint, polyDBoundPoint));
-
-                Scalar polyABoundPoint2 = polyABoundPoint.add(polyA.get(len + i)).subtract(polyA.get(i));
-                Scalar polyBBoundPoint2 = polyBBoundPoint.add(polyB.get(len + i)).subtract(polyB.get(i));
-                Scalar polyCBoundPoint2 = polyCBoundPoint.add(polyC.get(len + i)).subtract(polyC.get(i));
-                Scalar polyDBoundPoint2 = polyDBoundPoint.add(polyD.get(len + i)).subtract(polyD.get(i));
-                evalPoint3 = evalPoint3.add(combFunc.apply(polyABoundPoint2, polyBBoundPoint2, polyCBoundPoint2, polyDBoundPoint2));
+            Scalar bindR = pendingR;
+            int len = (int)polyA.getLen() / (bindR != null ? 4 : 2);
+            List<Tuple3<ScalarAccumulator, ScalarAccumulator, ScalarAccumulator>> partials = Parallel.mapChunks(
+                    len,
+                    (from, to) -> evalCubic(polyA, polyB, polyC, polyD, bindR, len, from, to, kernel, scalarFactory)
+            );
+            if (bindR != null) {
+                polyA.completeBindTop();
+                polyB.completeBindTop();
+                polyC.completeBindTop();
+                polyD.completeBindTop();
             }
 
+            ScalarAccumulator acc0 = partials.get(0).getValue1();
+            ScalarAccumulator acc2 = partials.get(0).getValue2();
+            ScalarAccumulator acc3 = partials.get(0).getValue3();
+            for (int i = 1; i < partials.size(); i++) {
+                acc0.addAssign(partials.get(i).getValue1());
+                acc2.addAssign(partials.get(i).getValue2());
+                acc3.addAssign(partials.get(i).getValue3());
+            }
+            Scalar evalPoint0 = acc0.get();
+            Scalar evalPoint2 = acc2.get();
+            Scalar evalPoint3 = acc3.get();
+
             List<Scalar> evals = List.of(
                     evalPoint0,
                     claimPerRound.subtract(evalPoint0),
@@ -233,10 +381,8 @@ public class ZKSumcheckInstanceProof {
 
             Scalar rj = transcript.challengeScalar("challenge_nextround".getBytes(StandardCharsets.UTF_8));
 
-            polyA.boundPolyVarTop(rj);
-            polyB.boundPolyVarTop(rj);
-            polyC.boundPolyVarTop(rj);
-            polyD.boundPolyVarTop(rj);
+            // binding to rj is fused into the next round's evaluation pass
+            pendingR = rj;
 
             Scalar eval = poly.evaluate(rj);
             Point commEval = Commitments.commit(eval, blindsEvals.get(j), gens1);
@@ -310,6 +456,13 @@ public class ZKSumcheckInstanceProof {
             commEvals.add(commClaimPerRound);
         }
 
+        if (pendingR != null) {
+            polyA.boundPolyVarTop(pendingR);
+            polyB.boundPolyVarTop(pendingR);
+            polyC.boundPolyVarTop(pendingR);
+            polyD.boundPolyVarTop(pendingR);
+        }
+
         return new Tuple4<>(
                 new ZKSumcheckInstanceProof(commPolys, commEvals, proofs),
                 r,
@@ -318,6 +471,139 @@ public class ZKSumcheckInstanceProof {
         );
     }
 
+    private interface QuadKernel {
+        List<Scalar> apply(ScalarVector A, ScalarVector B, int len, int from, int to);
+    }
+
+    private interface CubicKernel {
+        List<Scalar> apply(ScalarVector A, ScalarVector B, ScalarVector C, ScalarVector D, int len, int from, int to);
+    }
+
+    private static Pair<ScalarAccumulator, ScalarAccumulator> evalQuad(
+            DensePolynomial polyA,
+            DensePolynomial polyB,
+            Scalar bindR,
+            int len,
+            int from,
+            int to,
+            QuadKernel kernel,
+            ScalarFactory scalarFactory
+    ) {
+        ScalarAccumulator acc0 = scalarFactory.accumulator();
+        ScalarAccumulator acc2 = scalarFactory.accumulator();
+        for (int block = from; block < to; block += BIND_BLOCK) {
+            int end = Math.min(to, block + BIND_BLOCK);
+            if (bindR != null) {
+                polyA.bindTopRange(bindR, block, end);
+                polyA.bindTopRange(bindR, len + block, len + end);
+                polyB.bindTopRange(bindR, block, end);
+                polyB.bindTopRange(bindR, len + block, len + end);
+            }
+
+            List<Scalar> evals = kernel.apply(polyA.getZ(), polyB.getZ(), len, block, end);
+            acc0.addAssign(evals.get(0));
+            acc2.addAssign(evals.get(1));
+        }
+
+        return new Pair<>(acc0, acc2);
+    }
+
+    private static Tuple3<ScalarAccumulator, ScalarAccumulator, ScalarAccumulator> evalCubic(
+            DensePolynomial polyA,
+            DensePolynomial polyB,
+            DensePolynomial polyC,
+            DensePolynomial polyD,
+            Scalar bindR,
+            int len,
+            int from,
+            int to,
+            CubicKernel kernel,
+            ScalarFactory scalarFactory
+    ) {
+        ScalarAccumulator acc0 = scalarFactory.accumulator();
+        ScalarAccumulator acc2 = scalarFactory.accumulator();
+        ScalarAccumulator acc3 = scalarFactory.accumulator();
+        for (int block = from; block < to; block += BIND_BLOCK) {
+            int end = Math.min(to, block + BIND_BLOCK);
+            if (bindR != null) {
+                for (DensePolynomial p : List.of(polyA, polyB, polyC, polyD)) {
+                    p.bindTopRange(bindR, block, end);
+                    p.bindTopRange(bindR, len + block, len + end);
+                }
+            }
+
+            List<Scalar> evals = kernel.apply(polyA.getZ(), polyB.getZ(), polyC.getZ(), polyD.getZ(), len, block, end);
+            acc0.addAssign(evals.get(0));
+            acc2.addAssign(evals.get(1));
+            acc3.addAssign(evals.get(2));
+        }
+
+        return new Tuple3<>(acc0, acc2, acc3);
+    }
+
+    private static List<Scalar> combineQuad(
+            ScalarVector A,
+            ScalarVector B,
+            int len,
+            int from,
+            int to,
+            BiFunction<Scalar, Scalar, Scalar> combFunc,
+            ScalarFactory scalarFactory
+    ) {
+        ScalarAccumulator acc0 = scalarFactory.accumulator();
+        ScalarAccumulator acc2 = scalarFactory.accumulator();
+        ScalarAccumulator polyABoundPoint = scalarFactory.accumulator();
+        ScalarAccumulator polyBBoundPoint = scalarFactory.accumulator();
+
+        for (int i = from; i < to; i++) {
+            acc0.addAssign(combFunc.apply(A.get(i), B.get(i)));
+
+            polyABoundPoint.set(A, len + i).addAssign(A, len + i).subAssign(A, i);
+            polyBBoundPoint.set(B, len + i).addAssign(B, len + i).subAssign(B, i);
+            acc2.addAssign(combFunc.apply(polyABoundPoint.get(), polyBBoundPoint.get()));
+        }
+
+        return List.of(acc0.get(), acc2.get());
+    }
+
+    private static List<Scalar> combineCubic(
+            ScalarVector A,
+            ScalarVector B,
+            ScalarVector C,
+            ScalarVector D,
+            int len,
+            int from,
+            int to,
+            Function4<Scalar, Scalar, Scalar, Scalar, Scalar> combFunc,
+            ScalarFactory scalarFactory
+    ) {
+        ScalarAccumulator acc0 = scalarFactory.accumulator();
+        ScalarAccumulator acc2 = scalarFactory.accumulator();
+        ScalarAccumulator acc3 = scalarFactory.accumulator();
+        ScalarAccumulator polyABoundPoint = scalarFactory.accumulator();
+        ScalarAccumulator polyBBoundPoint = scalarFactory.accumulator();
+        ScalarAccumulator polyCBoundPoint = scalarFactory.accumulator();
+        ScalarAccumulator polyDBoundPoint = scalarFactory.accumulator();
+
+        for (int i = from; i < to; i++) {
+            acc0.addAssign(combFunc.apply(A.get(i), B.get(i), C.get(i), D.get(i)));
+
+            polyABoundPoint.set(A, len + i).addAssign(A, len + i).subAssign(A, i);
+            polyBBoundPoint.set(B, len + i).addAssign(B, len + i).subAssign(B, i);
+            polyCBoundPoint.set(C, len + i).addAssign(C, len + i).subAssign(C, i);
+            polyDBoundPoint.set(D, len + i).addAssign(D, len + i).subAssign(D, i);
+            acc2.addAssign(combFunc.apply(polyABoundPoint.get(), polyBBoundPoint.get(), polyCBoundPoint.get(), polyDBoundPoint.get()));
+
+            polyABoundPoint.addAssign(A, len + i).subAssign(A, i);
+            polyBBoundPoint.addAssign(B, len + i).subAssign(B, i);
+            polyCBoundPoint.addAssign(C, len + i).subAssign(C, i);
+            polyDBoundPoint.addAssign(D, len + i).subAssign(D, i);
+            acc3.addAssign(combFunc.apply(polyABoundPoint.get(), polyBBoundPoint.get(), polyCBoundPoint.get(), polyDBoundPoint.get()));
+        }
+
+        return List.of(acc0.get(), acc2.get(), acc3.get());
+    }
+
     public Pair<Point, List<Scalar>> verify(
             Point commClaim,
             long numRounds,
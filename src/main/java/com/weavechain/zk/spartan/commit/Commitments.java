@@ -1,5 +1,6 @@
 package com.weavechain.zk.spartan.commit;
 
+import com.weavechain.curves.FixedBaseTable;
 import com.weavechain.curves.Point;
 import com.weavechain.curves.PointFactory;
 import com.weavechain.curves.Scalar;
@@ -15,6 +16,10 @@ import java.util.List;
 public class Commitments {
 
     public static Point commit(Scalar input, Scalar blind, MultiCommitGens gens) {
+        List<FixedBaseTable> tables = gens.getTables();
+        if (tables != null) {
+            return FixedBaseTable.multiscalarMul(List.of(input, blind), List.of(tables.get(0), tables.get(gens.getN())));
+        }
         return gens.getG().get(0).multiply(input).add(gens.getH().multiply(blind));
     }
 
@@ -22,6 +27,13 @@ public class Commitments {
         if (gens.getN() != inputs.size()) {
             throw new IllegalArgumentException("Invalid sizes, " + gens.getN() + " != " + inputs.size());
         }
+        List<FixedBaseTable> tables = gens.getTables();
+        if (tables != null) {
+            List<Scalar> scalars = new ArrayList<>(inputs);
+            scalars.add(blind);
+            return FixedBaseTable.multiscalarMul(scalars, tables);
+        }
+
         List<Point> bases = new ArrayList<>(gens.getG());
         List<Scalar> scalars = new ArrayList<>(inputs);
         bases.add(gens.getH());
@@ -1,7 +1,12 @@
 package com.weavechain.zk.spartan.commit;
 
+import com.weavechain.curves.PointFactory;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessageUnpacker;
+
+import java.io.IOException;
 
 @Getter
 @AllArgsConstructor
@@ -14,4 +19,19 @@ public class R1CSCommitment {
     private final long numInputs;
 
     private final SparseMatPolyCommitment comm;
+
+    public void pack(MessageBufferPacker packer) throws IOException {
+        packer.packLong(numCons);
+        packer.packLong(numVars);
+        packer.packLong(numInputs);
+        comm.pack(packer);
+    }
+
+    public static R1CSCommitment unpack(MessageUnpacker unpacker, PointFactory pointFactory) throws IOException {
+        long numCons = unpacker.unpackLong();
+        long numVars = unpacker.unpackLong();
+        long numInputs = unpacker.unpackLong();
+        SparseMatPolyCommitment comm = SparseMatPolyCommitment.unpack(unpacker, pointFactory);
+        return new R1CSCommitment(numCons, numVars, numInputs, comm);
+    }
 }
@@ -1,7 +1,12 @@
 package com.weavechain.zk.spartan.commit;
 
+import com.weavechain.curves.PointFactory;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessageUnpacker;
+
+import java.io.IOException;
 
 @Getter
 @AllArgsConstructor
@@ -16,4 +21,21 @@ public class SparseMatPolyCommitment {
     private final PolyCommitment commCombOps;
 
     private final PolyCommitment commCombMem;
+
+    public void pack(MessageBufferPacker packer) throws IOException {
+        packer.packLong(batchSize);
+        packer.packLong(numMemCells);
+        packer.packLong(numOps);
+        commCombOps.pack(packer);
+        commCombMem.pack(packer);
+    }
+
+    public static SparseMatPolyCommitment unpack(MessageUnpacker unpacker, PointFactory pointFactory) throws IOException {
+        long batchSize = unpacker.unpackLong();
+        long numMemCells = unpacker.unpackLong();
+        long numOps = unpacker.unpackLong();
+        PolyCommitment commCombOps = PolyCommitment.unpack(unpacker, pointFactory);
+        PolyCommitment commCombMem = PolyCommitment.unpack(unpacker, pointFactory);
+        return new SparseMatPolyCommitment(batchSize, numMemCells, numOps, commCombOps, commCombMem);
+    }
 }
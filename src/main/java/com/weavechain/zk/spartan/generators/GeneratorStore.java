@@ -0,0 +1,242 @@
+package com.weavechain.zk.spartan.generators;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.weavechain.curves.Point;
+import com.weavechain.curves.PointFactory;
+import com.weavechain.zk.spartan.util.ChaChaRng;
+import com.weavechain.zk.spartan.util.Parallel;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GeneratorStore {
+
+    private static final int MAX_STREAMS = 64;
+
+    private static final int CHUNK_POINTS = 32;
+
+    // <key>.gens layout: magic, version, point size, count, stream id digest, payload digest, then count compressed points
+    private static final int MAGIC = 0x5347454e;
+
+    private static final int VERSION = 1;
+
+    private static final int DIGEST_SIZE = 32;
+
+    private static final int HEADER_SIZE = 16 + 2 * DIGEST_SIZE;
+
+    private static volatile boolean PARALLEL = true;
+
+    private static final AtomicLong DERIVED_POINTS = new AtomicLong();
+
+    private static final AtomicLong DERIVATION_NANOS = new AtomicLong();
+
+    private static final Cache<String, GeneratorStream> CACHE = Caffeine.newBuilder()
+            .maximumSize(MAX_STREAMS)
+            .build();
+
+    private static volatile Path persistenceDir;
+
+    public static void setPersistenceDir(Path dir) {
+        persistenceDir = dir;
+        CACHE.invalidateAll();
+    }
+
+    public static void setParallel(boolean value) {
+        PARALLEL = value;
+    }
+
+    public static boolean isParallel() {
+        return PARALLEL;
+    }
+
+    public static void clear() {
+        CACHE.invalidateAll();
+    }
+
+    public static long getDerivedPoints() {
+        return DERIVED_POINTS.get();
+    }
+
+    public static long getDerivationTimeMs() {
+        return DERIVATION_NANOS.get() / 1_000_000;
+    }
+
+    // first count points of the (curve, label) stream, the caller owns the returned list
+    public static List<Point> get(byte[] label, int count, PointFactory pointFactory) {
+        String key = pointFactory.getClass().getSimpleName() + "-" + Hex.toHexString(label);
+        GeneratorStream stream = CACHE.get(key, k -> new GeneratorStream(key, label, pointFactory, persistenceDir));
+        return stream.take(count);
+    }
+
+    private static class GeneratorStream {
+
+        private final byte[] seed;
+
+        private final byte[] streamId;
+
+        private final PointFactory pointFactory;
+
+        private final Path file;
+
+        private final List<Point> points = new ArrayList<>();
+
+        GeneratorStream(String key, byte[] label, PointFactory pointFactory, Path dir) {
+            this.seed = MultiCommitGens.seed(label, pointFactory);
+            this.streamId = streamId(key, seed);
+            this.pointFactory = pointFactory;
+            this.file = dir != null ? dir.resolve(key + ".gens") : null;
+
+            if (file != null && Files.exists(file)) {
+                load();
+            }
+        }
+
+        synchronized List<Point> take(int count) {
+            if (points.size() < count) {
+                extend(count);
+            }
+            return new ArrayList<>(points.subList(0, count));
+        }
+
+        private void extend(int count) {
+            long start = System.nanoTime();
+            int from = points.size();
+            int n = count - from;
+
+            // each chunk seeks its own copy of the stream, so the output does not depend on the split;
+            // a point costs far more than a field op, so any two chunks are worth splitting
+            Point[] derived = new Point[n];
+            int chunks = (n + CHUNK_POINTS - 1) / CHUNK_POINTS;
+            long workPerChunk = PARALLEL ? (long)CHUNK_POINTS * Parallel.getMinChunk() : 0;
+            Parallel.forEach(chunks, workPerChunk, c -> {
+                int lo = c * CHUNK_POINTS;
+                int hi = Math.min(n, lo + CHUNK_POINTS);
+                derive(from + lo, derived, lo, hi);
+            });
+            points.addAll(Arrays.asList(derived));
+
+            DERIVED_POINTS.addAndGet(n);
+            DERIVATION_NANOS.addAndGet(System.nanoTime() - start);
+
+            if (file != null) {
+                persist(from);
+            }
+        }
+
+        private void derive(int streamIdx, Point[] out, int lo, int hi) {
+            int size = pointFactory.compressedSize();
+            ChaChaRng rng = new ChaChaRng(seed);
+            rng.setWordPos((long)streamIdx * size / 4);
+
+            for (int i = lo; i < hi; i++) {
+                byte[] data = new byte[size];
+                rng.fillBytes(data);
+                out[i] = pointFactory.fromUniformBytes(data);
+            }
+        }
+
+        // a store that fails any check is dropped and the stream is derived again
+        private void load() {
+            int size = pointFactory.compressedSize();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() < HEADER_SIZE) {
+                    return;
+                }
+                MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+                byte[] id = new byte[DIGEST_SIZE];
+                byte[] digest = new byte[DIGEST_SIZE];
+                int magic = header.getInt();
+                int version = header.getInt();
+                int pointSize = header.getInt();
+                int count = header.getInt();
+                header.get(id);
+                header.get(digest);
+                if (magic != MAGIC || version != VERSION || pointSize != size || count <= 0 || !Arrays.equals(id, streamId)
+                        || channel.size() < HEADER_SIZE + (long)count * size) {
+                    return;
+                }
+
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, (long)count * size);
+                MessageDigest md = digest();
+                List<Point> loaded = new ArrayList<>(count);
+                byte[] data = new byte[size];
+                for (int i = 0; i < count; i++) {
+                    buffer.get(data);
+                    md.update(data);
+                    loaded.add(pointFactory.fromCompressedBytes(data));
+                }
+                if (!MessageDigest.isEqual(md.digest(), digest) || !matchesDerivation(loaded, 0) || !matchesDerivation(loaded, count - 1)) {
+                    return;
+                }
+                points.addAll(loaded);
+            } catch (Exception e) {
+                // unreadable store, derive from scratch
+                points.clear();
+            }
+        }
+
+        private boolean matchesDerivation(List<Point> loaded, int idx) {
+            Point[] expected = new Point[1];
+            derive(idx, expected, 0, 1);
+            return expected[0].equals(loaded.get(idx));
+        }
+
+        private void persist(int from) {
+            int size = pointFactory.compressedSize();
+            try {
+                Files.createDirectories(file.getParent());
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + (long)from * size, (long)(points.size() - from) * size);
+                    for (int i = from; i < points.size(); i++) {
+                        buffer.put(points.get(i).toByteArray());
+                    }
+                    buffer.force();
+
+                    // the header goes last, a partial write leaves the previous count and digest in place
+                    MessageDigest md = digest();
+                    for (Point p : points) {
+                        md.update(p.toByteArray());
+                    }
+                    MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+                    header.putInt(MAGIC);
+                    header.putInt(VERSION);
+                    header.putInt(size);
+                    header.putInt(points.size());
+                    header.put(streamId);
+                    header.put(md.digest());
+                    header.force();
+                }
+            } catch (IOException e) {
+                // persistence is best effort, the in-memory stream stays valid
+            }
+        }
+
+        private static byte[] streamId(String key, byte[] seed) {
+            MessageDigest md = digest();
+            md.update(key.getBytes(StandardCharsets.UTF_8));
+            md.update(seed);
+            return md.digest();
+        }
+
+        private static MessageDigest digest() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
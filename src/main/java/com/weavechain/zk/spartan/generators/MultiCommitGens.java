@@ -1,23 +1,30 @@
 package com.weavechain.zk.spartan.generators;
 
 import com.github.aelstad.keccakj.fips202.Shake256;
+import com.weavechain.curves.FixedBaseTable;
+import com.weavechain.curves.G1PointFactory;
 import com.weavechain.curves.G2PointFactory;
 import com.weavechain.curves.Point;
 import com.weavechain.curves.PointFactory;
-import com.weavechain.zk.spartan.util.ChaChaRng;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Getter
-@AllArgsConstructor
 public class MultiCommitGens {
 
     private static final boolean DEBUG = false;
 
+    private static volatile boolean PRECOMPUTE = true;
+
+    public static final int PRECOMPUTE_MAX_SIZE = 16;
+
+    private static final int PRECOMPUTE_AFTER_USES = 2;
+
     private final int n;
 
     private final List<Point> G;
@@ -26,42 +33,80 @@ public class MultiCommitGens {
 
     private final PointFactory pointFactory;
 
+    @Getter(AccessLevel.NONE)
+    private volatile List<FixedBaseTable> tables;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger uses = new AtomicInteger();
+
+    public MultiCommitGens(int n, List<Point> G, Point h, PointFactory pointFactory) {
+        this.n = n;
+        this.G = List.copyOf(G);
+        this.h = h;
+        this.pointFactory = pointFactory;
+    }
+
     public MultiCommitGens(int n, byte[] label, PointFactory pointFactory) {
         this.pointFactory = pointFactory;
         this.n = n;
-        G = new ArrayList<>();
 
+        List<Point> points;
+        if (DEBUG) {
+            points = new ArrayList<>();
+            for (int j = 0; j < n + 1; j++) {
+                points.add((j % 2 == 0) ? pointFactory.generator() : pointFactory.generator().add(pointFactory.generator()));
+            }
+        } else {
+            points = GeneratorStore.get(label, n + 1, pointFactory);
+        }
+
+        h = points.remove(n);
+        G = List.copyOf(points);
+    }
+
+    public static void setPrecompute(boolean value) {
+        PRECOMPUTE = value;
+    }
+
+    public static boolean isPrecompute() {
+        return PRECOMPUTE;
+    }
+
+    static byte[] seed(byte[] label, PointFactory pointFactory) {
         Shake256 gDigest = new Shake256();
         gDigest.getAbsorbStream().write(label);
 
-        byte[] buf = G2PointFactory.G.toByteArray();
+        // G1 gens are seeded from the G1 generator, the other curves keep the original G2 seed
+        byte[] buf = (pointFactory instanceof G1PointFactory ? G1PointFactory.G : G2PointFactory.G).toByteArray();
         gDigest.getAbsorbStream().write(buf.length > 48 && buf[0] == 0 ? Arrays.copyOfRange(buf, 1, buf.length) : buf);
 
         gDigest.getAbsorbStream().close();
 
         byte[] seed = new byte[32];
         gDigest.getSqueezeStream().read(seed);
+        return seed;
+    }
 
-        ChaChaRng chacha = new ChaChaRng(seed);
-
-        Point hp = null;
-        for (int j = 0; j < n + 1; j++) {
-            byte[] data = new byte[pointFactory.compressedSize()];
-            Point point;
-            if (DEBUG) {
-                point = (j % 2 == 0) ? pointFactory.generator() : pointFactory.generator().add(pointFactory.generator());
-            } else {
-                chacha.fillBytes(data);
-                point = pointFactory.fromUniformBytes(data);
-            }
+    // fixed-base tables for G followed by h, built once the gens are reused so one-off gens stay cheap;
+    // G is immutable, so a table commitment always equals the plain one
+    public List<FixedBaseTable> getTables() {
+        List<FixedBaseTable> result = tables;
+        if (result != null || !PRECOMPUTE || n > PRECOMPUTE_MAX_SIZE || uses.incrementAndGet() <= PRECOMPUTE_AFTER_USES) {
+            return result;
+        }
 
-            if (j < n) {
-                G.add(point);
-            } else {
-                hp = point;
+        synchronized (this) {
+            if (tables == null) {
+                Point zero = pointFactory.zero();
+                int windowBits = n == 1 ? 8 : 6;
+                List<FixedBaseTable> built = new ArrayList<>();
+                for (Point g : G) {
+                    built.add(new FixedBaseTable(g, zero, windowBits));
+                }
+                built.add(new FixedBaseTable(h, zero, windowBits));
+                tables = built;
             }
+            return tables;
         }
-
-        h = hp;
     }
 }
@@ -11,10 +11,37 @@ public class SNARKGens {
 
     private final R1CSCommitmentGens gensR1csEval;
 
+    private final long numCons;
+
+    private final long numVars;
+
+    private final long numInputs;
+
+    private final long numNonZeroEntries;
+
+    private final byte[] genLabel;
+
+    private final byte[] satLabel;
+
     public SNARKGens(long numCons, long numVars, long numInputs, long numNonZeroEntries, byte[] genLabel, byte[] satLabel, PointFactory pointFactory) {
+        this.numCons = numCons;
+        this.numVars = numVars;
+        this.numInputs = numInputs;
+        this.numNonZeroEntries = numNonZeroEntries;
+        this.genLabel = genLabel.clone();
+        this.satLabel = satLabel.clone();
+
         long numVarsPadded = Utils.nextPow2(Math.max(numVars, numInputs + 1));
 
         gensR1csSat = new R1CSGens(satLabel, numCons, numVarsPadded, pointFactory);
         gensR1csEval = new R1CSCommitmentGens(genLabel, numCons, numVarsPadded, numInputs, numNonZeroEntries, pointFactory);
     }
+
+    public byte[] getGenLabel() {
+        return genLabel.clone();
+    }
+
+    public byte[] getSatLabel() {
+        return satLabel.clone();
+    }
 }
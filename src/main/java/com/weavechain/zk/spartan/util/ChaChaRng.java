@@ -14,8 +14,7 @@ import java.util.Arrays;
 
 public class ChaChaRng {
 
-    private static final int BUF_BLOCKS = 4;
-    private static final int BLOCK_WORDS = 16;
+    private static final int BUFFER_WORDS = 64;
 
     public static class ChaCha {
         private static final int BUFSZ = 64; // Typically, BUFSZ is 64 for ChaCha20
@@ -254,19 +253,15 @@ public class ChaChaRng {
         return this.rng.tryFillBytes(bytes);
     }
 
+    // each refill advances the block counter by one and yields a full 64-word buffer
     long getWordPos() {
-        long bufStartBlock = this.rng.core.getBlockPos() - BUF_BLOCKS;
-        long bufOffsetWords = this.rng.index;
-        long bufOffsetBlocks = bufOffsetWords / BLOCK_WORDS;
-        long blockOffsetWords = bufOffsetWords % BLOCK_WORDS;
-        long posBlock = bufStartBlock + bufOffsetBlocks;
-        return posBlock * BLOCK_WORDS + blockOffsetWords;
+        long bufStartBlock = this.rng.core.getBlockPos() - 1;
+        return bufStartBlock * BUFFER_WORDS + this.rng.index;
     }
 
-    void setWordPos(long wordOffset) {
-        long block = wordOffset / BLOCK_WORDS;
-        this.rng.core.setBlockPos(block);
-        this.rng.generateAndSet((int) (wordOffset % BLOCK_WORDS));
+    public void setWordPos(long wordOffset) {
+        this.rng.core.setBlockPos(wordOffset / BUFFER_WORDS);
+        this.rng.generateAndSet((int) (wordOffset % BUFFER_WORDS));
     }
 
     void setStream(long stream) {
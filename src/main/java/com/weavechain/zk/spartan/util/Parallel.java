@@ -0,0 +1,98 @@
+package com.weavechain.zk.spartan.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+// Prover-side fork/join helpers; field sums are exact, so results never depend on the split
+public class Parallel {
+
+    private static volatile boolean ENABLED = true;
+
+    private static volatile ForkJoinPool POOL = ForkJoinPool.commonPool();
+
+    private static volatile int MIN_CHUNK = 1 << 10;
+
+    public static void configure(ForkJoinPool pool, int minChunk) {
+        POOL = pool;
+        MIN_CHUNK = Math.max(1, minChunk);
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ENABLED = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static ForkJoinPool getPool() {
+        return POOL;
+    }
+
+    public static int getMinChunk() {
+        return MIN_CHUNK;
+    }
+
+    public static boolean enabled(long work) {
+        return ENABLED && work >= 2L * MIN_CHUNK && POOL.getParallelism() > 1;
+    }
+
+    // runs task(i) for every i in [0, count), each task doing about workPerTask element operations
+    public static void forEach(int count, long workPerTask, IntConsumer task) {
+        if (count < 2 || !enabled(count * workPerTask)) {
+            for (int i = 0; i < count; i++) {
+                task.accept(i);
+            }
+            return;
+        }
+
+        POOL.invoke(ForkJoinTask.adapt(() -> IntStream.range(0, count).parallel().forEach(task)));
+    }
+
+    // splits [0, len) into chunks and runs them
+    public static void forChunks(int len, BiConsumer<Integer, Integer> chunk) {
+        mapChunks(len, (from, to) -> {
+            chunk.accept(from, to);
+            return Boolean.TRUE;
+        });
+    }
+
+    // as above, with each item costing about workPerItem element operations
+    public static void forChunks(int len, long workPerItem, BiConsumer<Integer, Integer> chunk) {
+        mapChunks(len, workPerItem, (from, to) -> {
+            chunk.accept(from, to);
+            return Boolean.TRUE;
+        });
+    }
+
+    // splits [0, len) into chunks, returns the per-chunk results in order
+    public static <T> List<T> mapChunks(int len, BiFunction<Integer, Integer, T> chunk) {
+        return mapChunks(len, 1, chunk);
+    }
+
+    // as above, with each item costing about workPerItem element operations
+    public static <T> List<T> mapChunks(int len, long workPerItem, BiFunction<Integer, Integer, T> chunk) {
+        long work = len * workPerItem;
+        int chunks = enabled(work) ? (int)Math.min(Math.min(POOL.getParallelism() * 4, len), work / MIN_CHUNK) : 1;
+        if (chunks <= 1) {
+            return List.of(chunk.apply(0, len));
+        }
+
+        int chunkSize = (len + chunks - 1) / chunks;
+        int count = (len + chunkSize - 1) / chunkSize;
+        Object[] results = new Object[count];
+        POOL.invoke(ForkJoinTask.adapt(() -> IntStream.range(0, count).parallel().forEach(c -> {
+            results[c] = chunk.apply(c * chunkSize, Math.min(len, (c + 1) * chunkSize));
+        })));
+
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>)Arrays.asList(results);
+        return list;
+    }
+}
@@ -0,0 +1,86 @@
+package com.weavechain.curves;
+
+import com.google.common.truth.Truth;
+import org.testng.annotations.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class FrScalarTest {
+
+    private static final BigInteger P = FrScalar.MODULUS;
+
+    private static final BigInteger R_INV = BigInteger.ONE.shiftLeft(256).modInverse(P);
+
+    @Test
+    public void testLimbArithmetic() {
+        Random rnd = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            BigInteger a = i % 7 == 0 ? P.subtract(BigInteger.ONE) : new BigInteger(256, rnd).mod(P);
+            BigInteger b = i % 11 == 0 ? BigInteger.ZERO : new BigInteger(256, rnd).mod(P);
+            long[] x = BigInt.fromBigInteger(a, 4).getValues();
+            long[] y = BigInt.fromBigInteger(b, 4).getValues();
+
+            Truth.assertThat(toBigInteger(FrScalar.add(x, y))).isEqualTo(a.add(b).mod(P));
+            Truth.assertThat(toBigInteger(FrScalar.sub(x, y))).isEqualTo(a.subtract(b).mod(P));
+            Truth.assertThat(toBigInteger(FrScalar.mul(x, y))).isEqualTo(a.multiply(b).multiply(R_INV).mod(P));
+            Truth.assertThat(toBigInteger(FrScalar.square(x))).isEqualTo(a.multiply(a).multiply(R_INV).mod(P));
+        }
+    }
+
+    @Test
+    public void testEncoding() {
+        Random rnd = new Random(2);
+        for (int i = 0; i < 1000; i++) {
+            BigInteger a = new BigInteger(256, rnd).mod(P);
+            BigInteger b = new BigInteger(256, rnd).mod(P);
+            Scalar x = FrScalar.fromBigInteger(a);
+            Scalar y = FrScalar.fromBigInteger(b);
+
+            Truth.assertThat(FrScalar.fromByteArray(x.toByteArray())).isEqualTo(x);
+            Truth.assertThat(fromLittleEndian(x.multiply(y).toByteArray())).isEqualTo(a.multiply(b).mod(P));
+            Truth.assertThat(fromLittleEndian(x.negate().add(y).toByteArray())).isEqualTo(b.subtract(a).mod(P));
+        }
+
+        byte[] ff = new byte[32];
+        Arrays.fill(ff, (byte)0xFF);
+        Truth.assertThat(fromLittleEndian(FrScalar.fromByteArray(ff).toByteArray())).isEqualTo(BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE).mod(P));
+    }
+
+    @Test
+    public void testInversion() {
+        Random rnd = new Random(3);
+        ScalarFactory scalarFactory = new FrScalarFactory();
+        List<Scalar> values = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            BigInteger a = i == 7 ? BigInteger.ZERO : new BigInteger(256, rnd).mod(P);
+            Scalar x = FrScalar.fromBigInteger(a);
+            values.add(x);
+
+            if (a.signum() != 0) {
+                Truth.assertThat(fromLittleEndian(x.invert().toByteArray())).isEqualTo(a.modInverse(P));
+            }
+        }
+
+        List<Scalar> inverses = scalarFactory.batchInvert(values);
+        for (int i = 0; i < values.size(); i++) {
+            Scalar expected = values.get(i).equals(scalarFactory.zero()) ? scalarFactory.zero() : values.get(i).invert();
+            Truth.assertThat(inverses.get(i)).isEqualTo(expected);
+        }
+    }
+
+    private static BigInteger toBigInteger(long[] values) {
+        return new BigInt(values).toBigInteger();
+    }
+
+    private static BigInteger fromLittleEndian(byte[] bytes) {
+        byte[] reversed = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            reversed[i] = bytes[bytes.length - 1 - i];
+        }
+        return new BigInteger(1, reversed);
+    }
+}
@@ -0,0 +1,141 @@
+package com.weavechain.curves;
+
+import com.google.common.truth.Truth;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+public class MultiscalarMulTest {
+
+    private static final int BENCHMARK_ROUNDS = 5;
+
+    @Test
+    public void testNativeMatchesJava() {
+        checkNative(new G2PointFactory(), G2PointFactory::mulJava, G2PointFactory::mulNative);
+        checkNative(new G1PointFactory(), G1PointFactory::mulJava, G1PointFactory::mulNative);
+    }
+
+    @Test
+    public void testJavaFallback() {
+        try {
+            G2PointFactory.setUseNativeMsm(false);
+            G1PointFactory.setUseNativeMsm(false);
+            checkNative(new G2PointFactory(), G2PointFactory::mulSequential, G2PointFactory::mulJava);
+            checkNative(new G1PointFactory(), G1PointFactory::mulSequential, G1PointFactory::mulJava);
+        } finally {
+            G2PointFactory.setUseNativeMsm(true);
+            G1PointFactory.setUseNativeMsm(true);
+        }
+    }
+
+    private static void checkNative(PointFactory pointFactory, BiFunction<List<Scalar>, List<Point>, Point> java, BiFunction<List<Scalar>, List<Point>, Point> blst) {
+        ScalarFactory scalarFactory = new FrScalarFactory();
+        for (int n : new int[] { 4, 17, 64 }) {
+            List<Point> bases = bases(n, pointFactory);
+            List<Scalar> scalars = scalars(n, scalarFactory);
+
+            Point expected = bases.get(0).multiply(scalars.get(0));
+            for (int i = 1; i < n; i++) {
+                expected = expected.add(bases.get(i).multiply(scalars.get(i)));
+            }
+
+            Truth.assertThat(java.apply(scalars, bases)).isEqualTo(expected);
+            Truth.assertThat(blst.apply(scalars, bases)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        ForkJoinPool pool = ParallelMsm.getPool();
+        int threshold = ParallelMsm.getThreshold();
+        ForkJoinPool threadPool = new ForkJoinPool(4);
+        try {
+            ParallelMsm.configure(threadPool, 16);
+            checkParallel(new G2PointFactory(), new FrScalarFactory(), G2PointFactory::mulSequential);
+            checkParallel(new G1PointFactory(), new FrScalarFactory(), G1PointFactory::mulSequential);
+            checkParallel(new RistrettoPointFactory(), new RScalar25519Factory(), RistrettoPointFactory::mulSequential);
+        } finally {
+            ParallelMsm.configure(pool, threshold);
+            threadPool.shutdown();
+        }
+    }
+
+    private static void checkParallel(PointFactory pointFactory, ScalarFactory scalarFactory, BiFunction<List<Scalar>, List<Point>, Point> sequential) {
+        for (int n : new int[] { 15, 16, 100, 257 }) {
+            List<Point> bases = bases(n, pointFactory);
+            List<Scalar> scalars = scalars(n, scalarFactory);
+
+            Point expected = sequential.apply(scalars, bases);
+            Truth.assertThat(pointFactory.multiscalarMul(scalars, bases).toByteArray()).isEqualTo(expected.toByteArray());
+        }
+    }
+
+    @Test
+    public void testFixedBase() {
+        checkFixedBase(new G2PointFactory(), new FrScalarFactory());
+        checkFixedBase(new RistrettoPointFactory(), new RScalar25519Factory());
+    }
+
+    private static void checkFixedBase(PointFactory pointFactory, ScalarFactory scalarFactory) {
+        List<Point> bases = bases(3, pointFactory);
+        List<Scalar> scalars = scalars(3, scalarFactory);
+        scalars.set(1, scalarFactory.zero());
+
+        for (int w = 6; w <= 8; w++) {
+            List<FixedBaseTable> tables = new ArrayList<>();
+            for (Point base : bases) {
+                tables.add(new FixedBaseTable(base, pointFactory.zero(), w));
+            }
+
+            for (int i = 0; i < bases.size(); i++) {
+                Truth.assertThat(tables.get(i).multiply(scalars.get(i)).toByteArray()).isEqualTo(bases.get(i).multiply(scalars.get(i)).toByteArray());
+            }
+            Truth.assertThat(FixedBaseTable.multiscalarMul(scalars, tables).toByteArray()).isEqualTo(pointFactory.multiscalarMul(scalars, bases).toByteArray());
+        }
+    }
+
+    @Test(enabled = false)
+    public void benchmarkG2() {
+        PointFactory pointFactory = new G2PointFactory();
+        ScalarFactory scalarFactory = new FrScalarFactory();
+
+        for (int n : new int[] { 64, 256, 1024, 4096 }) {
+            List<Point> bases = bases(n, pointFactory);
+            List<Scalar> scalars = scalars(n, scalarFactory);
+
+            long java = Long.MAX_VALUE;
+            long blst = Long.MAX_VALUE;
+            for (int r = 0; r < BENCHMARK_ROUNDS; r++) {
+                long start = System.nanoTime();
+                G2PointFactory.mulJava(scalars, bases);
+                java = Math.min(java, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                G2PointFactory.mulNative(scalars, bases);
+                blst = Math.min(blst, System.nanoTime() - start);
+            }
+
+            System.out.println(String.format("G2 MSM n=%d java=%.2fms blst=%.2fms speedup=%.1fx", n, java / 1e6, blst / 1e6, (double)java / blst));
+        }
+    }
+
+    private static List<Point> bases(int n, PointFactory pointFactory) {
+        List<Point> bases = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            bases.add(pointFactory.fromUniformBytes(("base" + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        return bases;
+    }
+
+    private static List<Scalar> scalars(int n, ScalarFactory scalarFactory) {
+        List<Scalar> scalars = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            scalars.add(scalarFactory.rndScalar());
+        }
+        return scalars;
+    }
+}
@@ -0,0 +1,61 @@
+package com.weavechain.curves;
+
+import com.google.common.truth.Truth;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SmallScalarVectorTest {
+
+    @Test
+    public void testMatchesFieldVector() {
+        Random rnd = new Random(3);
+        for (ScalarFactory scalarFactory : List.of(new FrScalarFactory(), new RScalar25519Factory())) {
+            List<Long> values = new ArrayList<>();
+            List<Scalar> other = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                values.add(i % 5 == 0 ? 1000L + rnd.nextInt(1000) : (long)rnd.nextInt(8));
+                other.add(scalarFactory.rndScalar());
+            }
+
+            SmallScalarVector small = SmallScalarVector.fromList(values, scalarFactory);
+            ScalarVector full = scalarFactory.vector(small.toList());
+            ScalarVector R = scalarFactory.vector(other.subList(0, 100));
+            Truth.assertThat(small.dot(R, 50)).isEqualTo(full.dot(R, 50));
+
+            ScalarVector merged = scalarFactory.vector(0);
+            merged.append(small);
+            Truth.assertThat(merged.toList()).isEqualTo(full.toList());
+
+            ScalarVector dense = scalarFactory.vector(other.subList(0, 200));
+            Truth.assertThat(dense.dot(small)).isEqualTo(dense.dot(full));
+            Truth.assertThat(dense.hadamard(small, 10, 90).toList()).isEqualTo(dense.hadamard(full, 10, 90).toList());
+            ScalarVector scaled = dense.slice(0, 100);
+            ScalarVector expected = dense.slice(0, 100);
+            scaled.addScaled(small, 50, other.get(1));
+            expected.addScaled(full, 50, other.get(1));
+            Truth.assertThat(scaled.toList()).isEqualTo(expected.toList());
+
+            ScalarAccumulator acc = scalarFactory.accumulator();
+            for (int i = 0; i < 200; i++) {
+                Truth.assertThat(acc.set(dense, i).mulAssign(small, i).addAssign(small, i).subAssign(small, 199 - i).get())
+                        .isEqualTo(acc.set(dense, i).mulAssign(full, i).addAssign(full, i).subAssign(full, 199 - i).get());
+                Truth.assertThat(acc.set(small, i).get()).isEqualTo(full.get(i));
+            }
+            ScalarVector copied = scalarFactory.vector(200);
+            for (int i = 0; i < 200; i++) {
+                copied.set(i, small, i);
+            }
+            Truth.assertThat(copied.toList()).isEqualTo(full.toList());
+            Truth.assertThat(small.hadamard(dense, 10, 90).toList()).isEqualTo(full.hadamard(dense, 10, 90).toList());
+            Truth.assertThat(small.isPromoted()).isFalse();
+
+            small.set(0, other.get(0));
+            full.set(0, other.get(0));
+            Truth.assertThat(small.isPromoted()).isTrue();
+            Truth.assertThat(small.toList()).isEqualTo(full.toList());
+        }
+    }
+}
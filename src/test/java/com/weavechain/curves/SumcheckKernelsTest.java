@@ -0,0 +1,63 @@
+package com.weavechain.curves;
+
+import com.google.common.truth.Truth;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SumcheckKernelsTest {
+
+    private static final int LEN = 37;
+
+    @Test
+    public void testKernelsMatchCombiners() {
+        for (ScalarFactory scalarFactory : List.of(new FrScalarFactory(), new RScalar25519Factory())) {
+            List<List<Scalar>> values = new ArrayList<>();
+            List<ScalarVector> vectors = new ArrayList<>();
+            for (int k = 0; k < 4; k++) {
+                List<Scalar> v = new ArrayList<>();
+                for (int i = 0; i < 2 * LEN; i++) {
+                    v.add(scalarFactory.rndScalar());
+                }
+                values.add(v);
+                vectors.add(scalarFactory.vector(v));
+            }
+            ScalarVector A = vectors.get(0);
+            ScalarVector B = vectors.get(1);
+            ScalarVector C = vectors.get(2);
+            ScalarVector D = vectors.get(3);
+
+            List<Scalar> quad = new ArrayList<>();
+            List<Scalar> product = new ArrayList<>();
+            List<Scalar> additive = new ArrayList<>();
+            for (int x : new int[] { 0, 2, 3 }) {
+                Scalar q = scalarFactory.zero();
+                Scalar p = scalarFactory.zero();
+                Scalar s = scalarFactory.zero();
+                for (int i = 3; i < 30; i++) {
+                    Scalar a = point(values.get(0), i, x, scalarFactory);
+                    Scalar b = point(values.get(1), i, x, scalarFactory);
+                    Scalar c = point(values.get(2), i, x, scalarFactory);
+                    Scalar d = point(values.get(3), i, x, scalarFactory);
+                    q = q.add(a.multiply(b));
+                    p = p.add(a.multiply(b).multiply(c));
+                    s = s.add(a.multiply(b.multiply(c).subtract(d)));
+                }
+                if (x != 3) {
+                    quad.add(q);
+                }
+                product.add(p);
+                additive.add(s);
+            }
+
+            Truth.assertThat(SumcheckKernels.product2(A, B, LEN, 3, 30, scalarFactory)).isEqualTo(quad);
+            Truth.assertThat(SumcheckKernels.product3(A, B, C, LEN, 3, 30, scalarFactory)).isEqualTo(product);
+            Truth.assertThat(SumcheckKernels.cubicAdditive(A, B, C, D, LEN, 3, 30, scalarFactory)).isEqualTo(additive);
+        }
+    }
+
+    private static Scalar point(List<Scalar> z, int i, int x, ScalarFactory scalarFactory) {
+        return z.get(i).add(scalarFactory.scalar((long)x).multiply(z.get(LEN + i).subtract(z.get(i))));
+    }
+}
@@ -0,0 +1,141 @@
+package com.weavechain.zk.spartan;
+
+import com.google.common.truth.Truth;
+import com.weavechain.curves.FrScalarFactory;
+import com.weavechain.curves.RScalar25519Factory;
+import com.weavechain.curves.Scalar;
+import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
+import com.weavechain.zk.spartan.util.Parallel;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class DensePolynomialTest {
+
+    private static final int NUM_VARS = 10;
+
+    @Test
+    public void testBindingVariants() {
+        ForkJoinPool pool = Parallel.getPool();
+        int minChunk = Parallel.getMinChunk();
+        ForkJoinPool threadPool = new ForkJoinPool(4);
+        try {
+            for (ScalarFactory scalarFactory : List.of(new FrScalarFactory(), new RScalar25519Factory())) {
+                List<Scalar> Z = new ArrayList<>();
+                for (int i = 0; i < (1 << NUM_VARS); i++) {
+                    Z.add(scalarFactory.rndScalar());
+                }
+                List<Scalar> r = new ArrayList<>();
+                for (int i = 0; i < NUM_VARS; i++) {
+                    r.add(scalarFactory.rndScalar());
+                }
+
+                Parallel.configure(pool, minChunk);
+                DensePolynomial top = DensePolynomial.create(Z, scalarFactory);
+                DensePolynomial bot = DensePolynomial.create(Z, scalarFactory);
+                for (Scalar ri : r) {
+                    top.boundPolyVarTop(ri);
+                    bot.boundPolyVarBot(ri);
+                }
+
+                Parallel.configure(threadPool, 8);
+                DensePolynomial topCompact = DensePolynomial.create(Z, scalarFactory);
+                DensePolynomial botCompact = DensePolynomial.create(Z, scalarFactory);
+                DensePolynomial topParallel = DensePolynomial.create(Z, scalarFactory);
+                DensePolynomial botParallel = DensePolynomial.create(Z, scalarFactory);
+                for (Scalar ri : r) {
+                    topCompact.boundPolyVarTopCompact(ri);
+                    botCompact.boundPolyVarBotCompact(ri);
+                    topParallel.boundPolyVarTop(ri);
+                    botParallel.boundPolyVarBot(ri);
+                }
+
+                DensePolynomial poly = DensePolynomial.create(Z, scalarFactory);
+                Truth.assertThat(poly.evaluate(r, scalarFactory)).isEqualTo(poly.evaluateFull(r, scalarFactory));
+                Truth.assertThat(poly.evaluate(r, scalarFactory)).isEqualTo(top.get(0));
+
+                Truth.assertThat(top.getLen()).isEqualTo(1);
+                Truth.assertThat(topCompact.get(0)).isEqualTo(top.get(0));
+                Truth.assertThat(topParallel.get(0)).isEqualTo(top.get(0));
+                Truth.assertThat(botCompact.get(0)).isEqualTo(bot.get(0));
+                Truth.assertThat(botParallel.get(0)).isEqualTo(bot.get(0));
+            }
+        } finally {
+            Parallel.configure(pool, minChunk);
+            threadPool.shutdown();
+        }
+    }
+
+    @Test
+    public void testEqEvalsIntoBuffer() {
+        ForkJoinPool pool = Parallel.getPool();
+        int minChunk = Parallel.getMinChunk();
+        ForkJoinPool threadPool = new ForkJoinPool(4);
+        try {
+            Parallel.configure(threadPool, 8);
+            for (ScalarFactory scalarFactory : List.of(new FrScalarFactory(), new RScalar25519Factory())) {
+                List<Scalar> r = new ArrayList<>();
+                for (int i = 0; i < NUM_VARS; i++) {
+                    r.add(scalarFactory.rndScalar());
+                }
+                List<Scalar> dirty = new ArrayList<>();
+                for (int i = 0; i < (1 << NUM_VARS) + 37; i++) {
+                    dirty.add(scalarFactory.rndScalar());
+                }
+
+                EqPolynomial eq = new EqPolynomial(r);
+                ScalarVector buffer = scalarFactory.vector(dirty);
+                eq.evals(buffer, scalarFactory);
+                Truth.assertThat(buffer.toList().subList(0, 1 << NUM_VARS)).isEqualTo(eq.evals(scalarFactory).toList());
+                Truth.assertThat(buffer.toList().subList(1 << NUM_VARS, buffer.size())).isEqualTo(dirty.subList(1 << NUM_VARS, dirty.size()));
+            }
+        } finally {
+            Parallel.configure(pool, minChunk);
+            threadPool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelBindingOfSmallValues() {
+        ForkJoinPool pool = Parallel.getPool();
+        int minChunk = Parallel.getMinChunk();
+        ForkJoinPool threadPool = new ForkJoinPool(4);
+        try {
+            Parallel.configure(threadPool, 8);
+            for (ScalarFactory scalarFactory : List.of(new FrScalarFactory(), new RScalar25519Factory())) {
+                Random rnd = new Random(5);
+                List<Long> values = new ArrayList<>();
+                for (int i = 0; i < (1 << NUM_VARS); i++) {
+                    values.add((long)rnd.nextInt(100));
+                }
+                Scalar r = scalarFactory.rndScalar();
+
+                DensePolynomial expected = DensePolynomial.create(DensePolynomial.fromSize(values, scalarFactory).getZ().toList(), scalarFactory);
+                expected.boundPolyVarTop(r);
+
+                for (int variant = 0; variant < 3; variant++) {
+                    DensePolynomial poly = DensePolynomial.fromSize(values, scalarFactory);
+                    DensePolynomial other = DensePolynomial.create(DensePolynomial.fromSize(values, scalarFactory).getZ().toList(), scalarFactory);
+                    if (variant == 0) {
+                        poly.boundPolyVarTop(r);
+                        Truth.assertThat(poly.getZ().toList()).isEqualTo(expected.getZ().toList());
+                    } else if (variant == 1) {
+                        poly.boundPolyVarTopCompact(r);
+                        Truth.assertThat(poly.getZ().toList()).isEqualTo(expected.getZ().toList());
+                    } else {
+                        poly.boundPolyVarBotCompact(r);
+                        other.boundPolyVarBot(r);
+                        Truth.assertThat(poly.getZ().toList()).isEqualTo(other.getZ().toList());
+                    }
+                }
+            }
+        } finally {
+            Parallel.configure(pool, minChunk);
+            threadPool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.weavechain.zk.spartan;
+
+import com.weavechain.curves.*;
+import com.weavechain.zk.spartan.generators.MultiCommitGens;
+import com.weavechain.zk.spartan.util.Parallel;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class ProverBenchmarkTest {
+
+    private static final int NUM_VARS = 16;
+
+    @Test(enabled = false)
+    public void benchmarkZKSumcheck() {
+        PointFactory pointFactory = new G2PointFactory();
+        ScalarFactory scalarFactory = new FrScalarFactory();
+
+        MultiCommitGens gens1 = new MultiCommitGens(1, "gens_1".getBytes(StandardCharsets.UTF_8), pointFactory);
+        MultiCommitGens gens3 = new MultiCommitGens(3, "gens_3".getBytes(StandardCharsets.UTF_8), pointFactory);
+        MultiCommitGens gens4 = new MultiCommitGens(4, "gens_4".getBytes(StandardCharsets.UTF_8), pointFactory);
+
+        List<DensePolynomial> polys = new ArrayList<>();
+        for (int k = 0; k < 4; k++) {
+            polys.add(randomPoly(NUM_VARS, scalarFactory));
+        }
+
+        ForkJoinPool pool = Parallel.getPool();
+        int minChunk = Parallel.getMinChunk();
+        try {
+            for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+                ForkJoinPool threadPool = new ForkJoinPool(threads);
+                try {
+                    Parallel.configure(threadPool, minChunk);
+
+                    long start = System.nanoTime();
+                    ZKSumcheckInstanceProof.proveQuad(
+                            scalarFactory.one(),
+                            scalarFactory.one(),
+                            NUM_VARS,
+                            polys.get(0).clone(),
+                            polys.get(1).clone(),
+                            Scalar::multiply,
+                            gens1,
+                            gens3,
+                            transcript(scalarFactory, pointFactory),
+                            new RandomTape(transcript(scalarFactory, pointFactory))
+                    );
+                    long quad = System.nanoTime() - start;
+
+                    start = System.nanoTime();
+                    ZKSumcheckInstanceProof.proveCubicWithAdditiveTerm(
+                            scalarFactory.one(),
+                            scalarFactory.one(),
+                            NUM_VARS,
+                            polys.get(0).clone(),
+                            polys.get(1).clone(),
+                            polys.get(2).clone(),
+                            polys.get(3).clone(),
+                            (a, b, c, d) -> a.multiply(b.multiply(c).subtract(d)),
+                            gens1,
+                            gens4,
+                            transcript(scalarFactory, pointFactory),
+                            new RandomTape(transcript(scalarFactory, pointFactory))
+                    );
+                    long cubic = System.nanoTime() - start;
+
+                    start = System.nanoTime();
+                    ZKSumcheckInstanceProof.proveQuad(
+                            scalarFactory.one(),
+                            scalarFactory.one(),
+                            NUM_VARS,
+                            polys.get(0).clone(),
+                            polys.get(1).clone(),
+                            gens1,
+                            gens3,
+                            transcript(scalarFactory, pointFactory),
+                            new RandomTape(transcript(scalarFactory, pointFactory))
+                    );
+                    long quadKernel = System.nanoTime() - start;
+
+                    start = System.nanoTime();
+                    ZKSumcheckInstanceProof.proveCubicWithAdditiveTerm(
+                            scalarFactory.one(),
+                            scalarFactory.one(),
+                            NUM_VARS,
+                            polys.get(0).clone(),
+                            polys.get(1).clone(),
+                            polys.get(2).clone(),
+                            polys.get(3).clone(),
+                            gens1,
+                            gens4,
+                            transcript(scalarFactory, pointFactory),
+                            new RandomTape(transcript(scalarFactory, pointFactory))
+                    );
+                    long cubicKernel = System.nanoTime() - start;
+
+                    System.out.println(String.format("2^%d threads=%d proveQuad=%.1fms (kernel %.1fms) proveCubicWithAdditiveTerm=%.1fms (kernel %.1fms)", NUM_VARS, threads, quad / 1e6, quadKernel / 1e6, cubic / 1e6, cubicKernel / 1e6));
+                } finally {
+                    Parallel.configure(pool, minChunk);
+                    threadPool.shutdown();
+                }
+            }
+        } finally {
+            Parallel.configure(pool, minChunk);
+        }
+    }
+
+    @Test(enabled = false)
+    public void benchmarkEqEvals() {
+        ScalarFactory scalarFactory = new FrScalarFactory();
+        int numVars = 20;
+
+        List<Scalar> r = new ArrayList<>();
+        for (int i = 0; i < numVars; i++) {
+            r.add(scalarFactory.rndScalar());
+        }
+        EqPolynomial eq = new EqPolynomial(r);
+        ScalarVector buffer = scalarFactory.vector(1 << numVars);
+
+        ForkJoinPool pool = Parallel.getPool();
+        int minChunk = Parallel.getMinChunk();
+        try {
+            for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+                ForkJoinPool threadPool = new ForkJoinPool(threads);
+                try {
+                    Parallel.configure(threadPool, minChunk);
+
+                    long start = System.nanoTime();
+                    eq.evals(scalarFactory);
+                    long fresh = System.nanoTime() - start;
+
+                    start = System.nanoTime();
+                    eq.evals(buffer, scalarFactory);
+                    long reused = System.nanoTime() - start;
+
+                    System.out.println(String.format("2^%d threads=%d evals=%.1fms (reused buffer %.1fms)", numVars, threads, fresh / 1e6, reused / 1e6));
+                } finally {
+                    Parallel.configure(pool, minChunk);
+                    threadPool.shutdown();
+                }
+            }
+        } finally {
+            Parallel.configure(pool, minChunk);
+        }
+    }
+
+    @Test(enabled = false)
+    public void benchmarkBound() {
+        ScalarFactory scalarFactory = new FrScalarFactory();
+
+        ForkJoinPool pool = Parallel.getPool();
+        int minChunk = Parallel.getMinChunk();
+        try {
+            for (int numVars = 16; numVars <= 24; numVars += 2) {
+                ScalarVector Z = scalarFactory.vector(1 << numVars);
+                for (int i = 0; i < Z.size(); i++) {
+                    Z.set(i, scalarFactory.scalar((long)i * 7919 + 1));
+                }
+                DensePolynomial poly = DensePolynomial.create(Z);
+
+                List<Scalar> L = new ArrayList<>();
+                for (int i = 0; i < 1 << (numVars / 2); i++) {
+                    L.add(scalarFactory.rndScalar());
+                }
+
+                for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+                    ForkJoinPool threadPool = new ForkJoinPool(threads);
+                    try {
+                        Parallel.configure(threadPool, minChunk);
+
+                        long start = System.nanoTime();
+                        poly.bound(L, scalarFactory);
+                        long elapsed = System.nanoTime() - start;
+
+                        System.out.println(String.format("2^%d threads=%d bound=%.1fms", numVars, threads, elapsed / 1e6));
+                    } finally {
+                        Parallel.configure(pool, minChunk);
+                        threadPool.shutdown();
+                    }
+                }
+            }
+        } finally {
+            Parallel.configure(pool, minChunk);
+        }
+    }
+
+    private static DensePolynomial randomPoly(int numVars, ScalarFactory scalarFactory) {
+        List<Scalar> Z = new ArrayList<>();
+        for (int i = 0; i < (1 << numVars); i++) {
+            Z.add(scalarFactory.rndScalar());
+        }
+        return DensePolynomial.create(Z, scalarFactory);
+    }
+
+    private static Transcript transcript(ScalarFactory scalarFactory, PointFactory pointFactory) {
+        return new Transcript("benchmark".getBytes(StandardCharsets.UTF_8), scalarFactory, pointFactory);
+    }
+}
@@ -0,0 +1,70 @@
+package com.weavechain.zk.spartan;
+
+import com.google.common.truth.Truth;
+import com.weavechain.curves.FrScalarFactory;
+import com.weavechain.curves.RScalar25519Factory;
+import com.weavechain.curves.Scalar;
+import com.weavechain.curves.ScalarFactory;
+import com.weavechain.curves.ScalarVector;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SparseMatPolynomialTest {
+
+    private static final int NUM_VARS_X = 6;
+
+    private static final int NUM_VARS_Y = 5;
+
+    @Test
+    public void testCompressedMatchesEntries() {
+        Random rnd = new Random(7);
+        int numRows = 1 << NUM_VARS_X;
+        int numCols = 1 << NUM_VARS_Y;
+        for (ScalarFactory scalarFactory : List.of(new FrScalarFactory(), new RScalar25519Factory())) {
+            List<SparseMatEntry> M = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                M.add(new SparseMatEntry(rnd.nextInt(numRows), rnd.nextInt(numCols), scalarFactory.rndScalar()));
+            }
+            SparseMatPolynomial plain = new SparseMatPolynomial(NUM_VARS_X, NUM_VARS_Y, M);
+            SparseMatPolynomial compressed = SparseMatPolynomial.create(NUM_VARS_X, NUM_VARS_Y, M, scalarFactory);
+
+            Truth.assertThat(compressed.getNumNZEntries()).isEqualTo(plain.getNumNZEntries());
+            for (int i = 0; i < M.size(); i++) {
+                SparseMatEntry entry = compressed.get(i);
+                Truth.assertThat(entry.getRow()).isEqualTo(M.get(i).getRow());
+                Truth.assertThat(entry.getCol()).isEqualTo(M.get(i).getCol());
+                Truth.assertThat(entry.getVal()).isEqualTo(M.get(i).getVal());
+            }
+            int N = (int)plain.getNumNZEntries();
+            Truth.assertThat(compressed.sparseToDenseVecs(N, scalarFactory).getValue3()).isEqualTo(plain.sparseToDenseVecs(N, scalarFactory).getValue3());
+
+            List<Scalar> z = new ArrayList<>();
+            for (int i = 0; i < numCols; i++) {
+                z.add(scalarFactory.rndScalar());
+            }
+            List<Scalar> x = new ArrayList<>();
+            for (int i = 0; i < numRows; i++) {
+                x.add(scalarFactory.rndScalar());
+            }
+            ScalarVector zv = scalarFactory.vector(z);
+            ScalarVector xv = scalarFactory.vector(x);
+
+            Truth.assertThat(compressed.multiplyVec(numRows, numCols, z, scalarFactory)).isEqualTo(plain.multiplyVec(numRows, numCols, z, scalarFactory));
+            Truth.assertThat(compressed.multiplyVecTransposed(numRows, numCols, xv, scalarFactory).toList()).isEqualTo(plain.multiplyVecTransposed(numRows, numCols, xv, scalarFactory).toList());
+            Truth.assertThat(compressed.evaluateWithTables(xv, zv, scalarFactory)).isEqualTo(plain.evaluateWithTables(xv, zv, scalarFactory));
+
+            List<Scalar> weights = List.of(scalarFactory.rndScalar(), scalarFactory.rndScalar());
+            ScalarVector combined = SparseMatPolynomial.multiMultiplyVecTransposed(List.of(compressed, compressed), weights, numRows, numCols, xv, scalarFactory);
+            ScalarVector expected = SparseMatPolynomial.multiMultiplyVecTransposed(List.of(plain, plain), weights, numRows, numCols, xv, scalarFactory);
+            Truth.assertThat(combined.toList()).isEqualTo(expected.toList());
+
+            List<Scalar> rx = x.subList(0, NUM_VARS_X);
+            List<Scalar> ry = z.subList(0, NUM_VARS_Y);
+            Truth.assertThat(SparseMatPolynomial.multiEvaluate(List.of(compressed, compressed), rx, ry, scalarFactory))
+                    .isEqualTo(SparseMatPolynomial.multiEvaluate(List.of(plain, plain), rx, ry, scalarFactory));
+        }
+    }
+}
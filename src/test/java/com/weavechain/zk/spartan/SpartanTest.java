@@ -2,7 +2,10 @@ package com.weavechain.zk.spartan;
 
 import com.google.common.truth.Truth;
 import com.weavechain.curves.*;
+import com.weavechain.zk.spartan.commit.R1CSCommitment;
 import com.weavechain.zk.spartan.generators.SNARKGens;
+import com.weavechain.zk.spartan.util.Parallel;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -10,6 +13,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 public class SpartanTest {
 
@@ -29,6 +33,20 @@ public class SpartanTest {
         testCircuit(circuit, privateInputs, pointFactory, scalarFactory);
     }
 
+    @Test
+    public void testEvalTinyBlsG1() throws IOException {
+        PointFactory pointFactory = new G1PointFactory();
+        ScalarFactory scalarFactory = new FrScalarFactory();
+
+        List<Scalar> privateInputs = new ArrayList<>();
+        Scalar ONE = scalarFactory.one();
+        privateInputs.add(ONE);
+        privateInputs.add(ONE.add(ONE));
+
+        R1CS circuit = tinyR1CS(privateInputs, scalarFactory);
+        testCircuit(circuit, privateInputs, pointFactory, scalarFactory);
+    }
+
     @Test
     public void testEvalTinyRistretto() throws IOException {
         PointFactory pointFactory = new RistrettoPointFactory();
@@ -43,6 +61,58 @@ public class SpartanTest {
         testCircuit(circuit, privateInputs, pointFactory, scalarFactory);
     }
 
+    @Test
+    public void testParallelProofMatchesSequential() throws IOException {
+        PointFactory pointFactory = new G2PointFactory();
+        ScalarFactory scalarFactory = new FrScalarFactory();
+
+        List<Scalar> privateInputs = new ArrayList<>();
+        Scalar ONE = scalarFactory.one();
+        privateInputs.add(ONE);
+        privateInputs.add(ONE.add(ONE));
+
+        R1CS circuit = tinyR1CS(privateInputs, scalarFactory);
+
+        ForkJoinPool pool = Parallel.getPool();
+        int minChunk = Parallel.getMinChunk();
+        boolean enabled = Parallel.isEnabled();
+        ForkJoinPool threadPool = new ForkJoinPool(4);
+        byte[] sequential;
+        byte[] parallel;
+        try {
+            Parallel.setEnabled(false);
+            sequential = proveCircuit(circuit, pointFactory, scalarFactory);
+
+            Parallel.setEnabled(true);
+            Parallel.configure(threadPool, 1);
+            parallel = proveCircuit(circuit, pointFactory, scalarFactory);
+        } finally {
+            Parallel.setEnabled(enabled);
+            Parallel.configure(pool, minChunk);
+            threadPool.shutdown();
+        }
+
+        Truth.assertThat(parallel).isEqualTo(sequential);
+    }
+
+    private byte[] proveCircuit(R1CS circuit, PointFactory pointFactory, ScalarFactory scalarFactory) throws IOException {
+        SNARKGens gens = new SNARKGens(
+                circuit.getNumCons(),
+                circuit.getNumVars(),
+                circuit.getNumInputs(),
+                circuit.getNumNonZeroEntries(),
+                "gens_r1cs_eval".getBytes(StandardCharsets.UTF_8),
+                "gens_r1cs_sat".getBytes(StandardCharsets.UTF_8),
+                pointFactory
+        );
+
+        Transcript transcript = new Transcript("snark_example".getBytes(StandardCharsets.UTF_8), scalarFactory, pointFactory);
+        Transcript tape = new Transcript("proof".getBytes(StandardCharsets.UTF_8), scalarFactory, pointFactory);
+        tape.appendScalar("init_randomness".getBytes(StandardCharsets.UTF_8), scalarFactory.one());
+
+        return Snark.prove(circuit, gens, transcript, new RandomTape(tape)).serialize();
+    }
+
     public void testCircuit(R1CS circuit, List<Scalar> privateInputs, PointFactory pointFactory, ScalarFactory scalarFactory) throws IOException {
         //Spartan.init();
 
@@ -102,6 +172,46 @@ public class SpartanTest {
                     verifierTranscript
             );
             Truth.assertThat(test).isTrue();
+
+            byte[] key = Snark.preprocess(circuit, verifierGens, scalarFactory, pointFactory).serialize();
+            SnarkVerifierKey verifierKey = SnarkVerifierKey.deserialize(key, pointFactory);
+            Truth.assertThat(verifierKey.serialize()).isEqualTo(key);
+
+            Transcript keyTranscript = new Transcript(transcriptLabel.getBytes(StandardCharsets.UTF_8), scalarFactory, pointFactory);
+            Truth.assertThat(proof2.verify(verifierKey, verifyInputs, verifierKey.createGens(pointFactory), keyTranscript)).isTrue();
+
+            // keys for other generators, or with commitment sizes that disagree with their own, are rejected
+            R1CSCommitment comm = verifierKey.getComm();
+            SnarkVerifierKey otherLabel = new SnarkVerifierKey(
+                    verifierKey.getCurve(),
+                    verifierKey.getNumCons(),
+                    verifierKey.getNumVars(),
+                    verifierKey.getNumInputs(),
+                    verifierKey.getNumNonZeroEntries(),
+                    "other_gens".getBytes(StandardCharsets.UTF_8),
+                    verifierKey.getSatLabel(),
+                    comm
+            );
+            SnarkVerifierKey otherSizes = new SnarkVerifierKey(
+                    verifierKey.getCurve(),
+                    verifierKey.getNumCons(),
+                    verifierKey.getNumVars(),
+                    verifierKey.getNumInputs(),
+                    verifierKey.getNumNonZeroEntries(),
+                    verifierKey.getGenLabel(),
+                    verifierKey.getSatLabel(),
+                    new R1CSCommitment(2 * comm.getNumCons(), comm.getNumVars(), comm.getNumInputs(), comm.getComm())
+            );
+            for (SnarkVerifierKey invalid : List.of(otherLabel, otherSizes)) {
+                Truth.assertThat(invalid.matches(verifierGens, pointFactory)).isFalse();
+                Transcript invalidTranscript = new Transcript(transcriptLabel.getBytes(StandardCharsets.UTF_8), scalarFactory, pointFactory);
+                try {
+                    proof2.verify(invalid, verifyInputs, verifierGens, invalidTranscript);
+                    Assert.fail("Invalid verifier key accepted");
+                } catch (IllegalArgumentException e) {
+                    Truth.assertThat(e).hasMessageThat().isEqualTo("Invalid verifier key");
+                }
+            }
         }
     }
 
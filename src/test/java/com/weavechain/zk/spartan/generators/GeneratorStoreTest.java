@@ -0,0 +1,99 @@
+package com.weavechain.zk.spartan.generators;
+
+import com.google.common.truth.Truth;
+import com.weavechain.curves.G2PointFactory;
+import com.weavechain.curves.Point;
+import com.weavechain.curves.PointFactory;
+import com.weavechain.zk.spartan.util.Parallel;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class GeneratorStoreTest {
+
+    private static final byte[] LABEL = "gens_test".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testPrefixAndPersistence() throws IOException {
+        PointFactory pointFactory = new G2PointFactory();
+
+        GeneratorStore.clear();
+        List<Point> expected = GeneratorStore.get(LABEL, 9, pointFactory);
+
+        GeneratorStore.clear();
+        Truth.assertThat(GeneratorStore.get(LABEL, 3, pointFactory)).isEqualTo(expected.subList(0, 3));
+        Truth.assertThat(GeneratorStore.get(LABEL, 9, pointFactory)).isEqualTo(expected);
+
+        MultiCommitGens gens = new MultiCommitGens(4, LABEL, pointFactory);
+        Truth.assertThat(gens.getG()).isEqualTo(expected.subList(0, 4));
+        Truth.assertThat(gens.getH()).isEqualTo(expected.get(4));
+
+        Path dir = Files.createTempDirectory("gens");
+        try {
+            GeneratorStore.setPersistenceDir(dir);
+            Truth.assertThat(GeneratorStore.get(LABEL, 5, pointFactory)).isEqualTo(expected.subList(0, 5));
+
+            GeneratorStore.setPersistenceDir(dir);
+            Truth.assertThat(GeneratorStore.get(LABEL, 9, pointFactory)).isEqualTo(expected);
+
+            // a tampered or zero-filled store is rejected and derived again
+            Path file;
+            try (var files = Files.list(dir)) {
+                file = files.findFirst().orElseThrow();
+            }
+            byte[] data = Files.readAllBytes(file);
+            Arrays.fill(data, data.length - pointFactory.compressedSize(), data.length, (byte)0);
+            Files.write(file, data);
+            GeneratorStore.setPersistenceDir(dir);
+            Truth.assertThat(GeneratorStore.get(LABEL, 9, pointFactory)).isEqualTo(expected);
+
+            GeneratorStore.setPersistenceDir(dir);
+            long derived = GeneratorStore.getDerivedPoints();
+            Truth.assertThat(GeneratorStore.get(LABEL, 9, pointFactory)).isEqualTo(expected);
+            Truth.assertThat(GeneratorStore.getDerivedPoints()).isEqualTo(derived);
+
+            data = Files.readAllBytes(file);
+            data[data.length - 1] ^= 1;
+            Files.write(file, data);
+            GeneratorStore.setPersistenceDir(dir);
+            Truth.assertThat(GeneratorStore.get(LABEL, 9, pointFactory)).isEqualTo(expected);
+            Truth.assertThat(GeneratorStore.getDerivedPoints()).isEqualTo(derived + 9);
+        } finally {
+            GeneratorStore.setPersistenceDir(null);
+            try (var files = Files.list(dir)) {
+                files.forEach(f -> f.toFile().delete());
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void testParallelDerivation() {
+        PointFactory pointFactory = new G2PointFactory();
+        boolean parallel = GeneratorStore.isParallel();
+        ForkJoinPool pool = Parallel.getPool();
+        int minChunk = Parallel.getMinChunk();
+        ForkJoinPool threadPool = new ForkJoinPool(4);
+        try {
+            GeneratorStore.setParallel(false);
+            GeneratorStore.clear();
+            List<Point> expected = GeneratorStore.get(LABEL, 300, pointFactory);
+
+            GeneratorStore.setParallel(true);
+            Parallel.configure(threadPool, 1);
+            GeneratorStore.clear();
+            Truth.assertThat(GeneratorStore.get(LABEL, 7, pointFactory)).isEqualTo(expected.subList(0, 7));
+            Truth.assertThat(GeneratorStore.get(LABEL, 300, pointFactory)).isEqualTo(expected);
+        } finally {
+            GeneratorStore.setParallel(parallel);
+            Parallel.configure(pool, minChunk);
+            threadPool.shutdown();
+        }
+    }
+}